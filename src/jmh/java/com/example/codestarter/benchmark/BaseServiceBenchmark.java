@@ -0,0 +1,93 @@
+package com.example.codestarter.benchmark;
+
+import com.example.codestarter.CodeStarterApplication;
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.service.SampleService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BaseServiceImpl 基准测试（H2 内存库）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BaseServiceBenchmark {
+
+    private static final int SEED_ROWS = 10000;
+
+    private ConfigurableApplicationContext context;
+
+    private SampleService sampleService;
+
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CodeStarterApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run();
+        sampleService = context.getBean(SampleService.class);
+        List<SampleEntity> seeded = new ArrayList<>(SEED_ROWS);
+        for (int i = 0; i < SEED_ROWS; i++) {
+            seeded.add(new SampleEntity("seed-" + i));
+        }
+        sampleService.batchInsert(seeded);
+        ids = seeded.stream().map(SampleEntity::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SampleEntity save() {
+        return sampleService.save(new SampleEntity("save"));
+    }
+
+    @Benchmark
+    public List<SampleEntity> saveAll() {
+        List<SampleEntity> entities = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            entities.add(new SampleEntity("saveAll-" + i));
+        }
+        return sampleService.saveAll(entities);
+    }
+
+    @Benchmark
+    public Page<SampleEntity> findAllByPage() {
+        int page = ThreadLocalRandom.current().nextInt(SEED_ROWS / 20);
+        return sampleService.findAllByPage(PageRequest.of(page, 20));
+    }
+
+    @Benchmark
+    public Optional<SampleEntity> findByIdAndNotDeleted() {
+        return sampleService.findByIdAndNotDeleted(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+}
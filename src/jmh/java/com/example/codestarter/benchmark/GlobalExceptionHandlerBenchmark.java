@@ -0,0 +1,65 @@
+package com.example.codestarter.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import com.example.codestarter.common.Result;
+import com.example.codestarter.config.ExceptionLogProperties;
+import com.example.codestarter.exception.BusinessException;
+import com.example.codestarter.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GlobalExceptionHandler 异常映射基准测试
+ * 包含异常创建与处理器映射（业务异常不采集堆栈）；控制台输出被移除，只统计日志事件本身的开销。
+ * 日志限频与级别使用默认配置
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).detachAndStopAllAppenders();
+        handler = new GlobalExceptionHandler(new SimpleMeterRegistry(), new ExceptionLogProperties());
+    }
+
+    @Benchmark
+    public Result<?> businessException() {
+        return handler.handleBusinessException(new BusinessException(400, "参数错误"));
+    }
+
+    @Benchmark
+    public Result<?> preallocatedBusinessException() {
+        return handler.handleBusinessException(BusinessException.NOT_FOUND);
+    }
+
+    @Benchmark
+    public Result<?> illegalArgumentException() {
+        return handler.handleIllegalArgumentException(new IllegalArgumentException("参数不合法"));
+    }
+
+    @Benchmark
+    public Result<?> exception() {
+        return handler.handleException(new IllegalStateException("系统异常"));
+    }
+}
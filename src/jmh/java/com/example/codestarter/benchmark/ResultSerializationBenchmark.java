@@ -0,0 +1,89 @@
+package com.example.codestarter.benchmark;
+
+import com.example.codestarter.common.Result;
+import com.example.codestarter.common.json.ResponseJsonModule;
+import com.example.codestarter.entity.BaseEntity;
+import com.example.codestarter.entity.SampleEntity;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result&lt;Page&lt;T&gt;&gt; JSON 序列化基准测试
+ * ObjectMapper 配置与 application.yml 中的 spring.jackson 保持一致
+ * <p>
+ * baseline 为 BeanSerializer + jsr310 默认的 LocalDateTimeSerializer；optimized 注册 {@link ResponseJsonModule}，
+ * 两者输出相同。
+ * 每次响应的分配字节数：mvn -Pjmh verify -DskipTests -Djmh.args="-prof gc ResultSerialization"，
+ * 查看 gc.alloc.rate.norm
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"baseline", "optimized"})
+    private String mode;
+
+    private ObjectMapper objectMapper;
+
+    private Page<SampleEntity> page;
+
+    @Setup
+    public void setUp() {
+        SimpleModule module = "optimized".equals(mode) ? new ResponseJsonModule() : new SimpleModule();
+        objectMapper = new Jackson2ObjectMapperBuilder()
+                .dateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"))
+                .timeZone(TimeZone.getTimeZone("GMT+8"))
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .modulesToInstall(module)
+                .build();
+        List<SampleEntity> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            SampleEntity entity = new SampleEntity("sample-" + i);
+            entity.setId((long) i);
+            entity.setCreateTime(BaseEntity.now());
+            entity.setUpdateTime(BaseEntity.now());
+            content.add(entity);
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(Result.success(page));
+    }
+
+    @Benchmark
+    public byte[] serializeEmptyResult() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(Result.success());
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.codestarter.benchmark;
+
+import com.example.codestarter.CodeStarterApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 启动到首个请求完成的耗时（H2 内存库，test profile，随机端口）
+ * <p>
+ * 每个 fork 是一个新的 JVM，只启动一次应用，包含类加载、Bean 创建、Tomcat 启动和 GET /api/hello；
+ * lazySpringdoc 对比 SpringDoc Bean 是否延迟初始化。
+ * CDS、AOT 作用于 JVM 与打包产物，可通过 -Djmh.args="-jvmArgsAppend -XX:SharedArchiveFile=..." 叠加比较。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmark {
+
+    @Param({"false", "true"})
+    private boolean lazySpringdoc;
+
+    private ConfigurableApplicationContext context;
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public int timeToFirstRequest() throws IOException {
+        context = new SpringApplicationBuilder(CodeStarterApplication.class)
+                .profiles("test")
+                .run("--server.port=0", "--app.startup.lazy-springdoc=" + lazySpringdoc);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/api/hello")
+                .openConnection();
+        try (InputStream body = connection.getInputStream()) {
+            body.readAllBytes();
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.example.codestarter;
 
+import com.example.codestarter.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Spring Boot 应用程序主启动类
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class CodeStarterApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,114 @@
+package com.example.codestarter.cache;
+
+import com.example.codestarter.entity.BaseEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 基于 Caffeine 的进程内实体缓存
+ * <p>
+ * 一致性保证：
+ * <ul>
+ *     <li>写入时比较 {@code version}，低版本不会覆盖高版本</li>
+ *     <li>失效会记录时间点，早于该时间点开始的数据库加载结果不会回填</li>
+ *     <li>缓存中保存的是实体快照，读写都复制一份，调用方修改返回值不会污染缓存</li>
+ * </ul>
+ * 快照为浅拷贝，适用于不含延迟加载关联的实体。
+ */
+public class CaffeineEntityCache implements EntityCache {
+
+    private final Cache<EntityKey, BaseEntity> cache;
+
+    /**
+     * 最近失效时间，保留时长与缓存过期时间一致，足以覆盖任何进行中的加载
+     */
+    private final Cache<EntityKey, Long> invalidations;
+
+    public CaffeineEntityCache(long maximumSize, Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.invalidations = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    @Override
+    public <T extends BaseEntity> Optional<T> get(Class<T> type, Object id) {
+        BaseEntity cached = cache.getIfPresent(new EntityKey(type, id));
+        return Optional.ofNullable(cached).map(entity -> type.cast(copy(entity)));
+    }
+
+    @Override
+    public long startLoad() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void putFromLoad(BaseEntity entity, long token) {
+        EntityKey key = keyOf(entity);
+        Long invalidatedAt = invalidations.getIfPresent(key);
+        if (invalidatedAt != null && invalidatedAt - token >= 0) {
+            return;
+        }
+        merge(key, entity);
+    }
+
+    @Override
+    public void put(BaseEntity entity) {
+        merge(keyOf(entity), entity);
+    }
+
+    @Override
+    public void evict(Class<? extends BaseEntity> type, Object id) {
+        EntityKey key = new EntityKey(type, id);
+        invalidations.put(key, System.nanoTime());
+        cache.invalidate(key);
+    }
+
+    /**
+     * 获取底层 Caffeine 缓存，用于统计信息等
+     *
+     * @return Caffeine 缓存
+     */
+    public Cache<EntityKey, BaseEntity> getNativeCache() {
+        return cache;
+    }
+
+    private void merge(EntityKey key, BaseEntity entity) {
+        BaseEntity snapshot = copy(entity);
+        cache.asMap().merge(key, snapshot, (current, candidate) ->
+                versionOf(candidate) >= versionOf(current) ? candidate : current);
+    }
+
+    private static EntityKey keyOf(BaseEntity entity) {
+        return new EntityKey(ClassUtils.getUserClass(entity), entity.getId());
+    }
+
+    private static int versionOf(BaseEntity entity) {
+        return entity.getVersion() == null ? 0 : entity.getVersion();
+    }
+
+    private static BaseEntity copy(BaseEntity source) {
+        BaseEntity target = BeanUtils.instantiateClass(ClassUtils.getUserClass(source).asSubclass(BaseEntity.class));
+        BeanUtils.copyProperties(source, target);
+        return target;
+    }
+
+    /**
+     * 缓存键
+     *
+     * @param type 实体类型
+     * @param id   主键ID
+     */
+    public record EntityKey(Class<?> type, Object id) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.codestarter.cache;
+
+import com.example.codestarter.entity.BaseEntity;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 实体缓存接口
+ * 缓存按 (实体类型, ID) 存放实体快照，读写均为副本，调用方修改返回值不会影响缓存
+ */
+public interface EntityCache {
+
+    /**
+     * 查询缓存
+     *
+     * @param type 实体类型
+     * @param id   主键ID
+     * @return 实体副本，未命中时为空
+     */
+    <T extends BaseEntity> Optional<T> get(Class<T> type, Object id);
+
+    /**
+     * 开始一次数据库加载，返回加载令牌
+     * 加载完成后通过 {@link #putFromLoad(BaseEntity, long)} 回填
+     *
+     * @return 加载令牌
+     */
+    long startLoad();
+
+    /**
+     * 回填从数据库加载的实体
+     * 如果加载开始后该实体被失效过，则放弃回填，避免并发写入期间读到的旧数据进入缓存
+     *
+     * @param entity 实体
+     * @param token  {@link #startLoad()} 返回的令牌
+     */
+    void putFromLoad(BaseEntity entity, long token);
+
+    /**
+     * 写入已提交的实体，版本号低于缓存中已有值时忽略
+     *
+     * @param entity 实体
+     */
+    void put(BaseEntity entity);
+
+    /**
+     * 失效指定实体
+     *
+     * @param type 实体类型
+     * @param id   主键ID
+     */
+    void evict(Class<? extends BaseEntity> type, Object id);
+
+    /**
+     * 批量失效指定实体
+     *
+     * @param type 实体类型
+     * @param ids  主键ID列表
+     */
+    default void evictAll(Class<? extends BaseEntity> type, Collection<?> ids) {
+        ids.forEach(id -> evict(type, id));
+    }
+
+    /**
+     * 是否启用缓存
+     *
+     * @return 是否启用
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
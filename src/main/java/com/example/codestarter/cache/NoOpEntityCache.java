@@ -0,0 +1,43 @@
+package com.example.codestarter.cache;
+
+import com.example.codestarter.entity.BaseEntity;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 不缓存任何数据的实体缓存实现，缓存关闭时使用
+ */
+public class NoOpEntityCache implements EntityCache {
+
+    @Override
+    public <T extends BaseEntity> Optional<T> get(Class<T> type, Object id) {
+        return Optional.empty();
+    }
+
+    @Override
+    public long startLoad() {
+        return 0L;
+    }
+
+    @Override
+    public void putFromLoad(BaseEntity entity, long token) {
+    }
+
+    @Override
+    public void put(BaseEntity entity) {
+    }
+
+    @Override
+    public void evict(Class<? extends BaseEntity> type, Object id) {
+    }
+
+    @Override
+    public void evictAll(Class<? extends BaseEntity> type, Collection<?> ids) {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
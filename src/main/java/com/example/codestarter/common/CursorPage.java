@@ -0,0 +1,32 @@
+package com.example.codestarter.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 游标分页结果
+ * 不包含总数，翻页通过 nextCursor 继续
+ *
+ * @param <T> 数据类型
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    /**
+     * 当前页数据
+     */
+    private List<T> content;
+
+    /**
+     * 下一页游标，没有下一页时为 null
+     */
+    private String nextCursor;
+
+    /**
+     * 是否存在下一页
+     */
+    private boolean hasNext;
+}
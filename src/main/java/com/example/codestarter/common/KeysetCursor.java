@@ -0,0 +1,75 @@
+package com.example.codestarter.common;
+
+import com.example.codestarter.entity.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 游标分页（Keyset / Seek）的位置标记
+ * 以 (createTime, id) 作为排序键，对外以不透明的 Base64 字符串传递
+ */
+@Data
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * 上一页最后一条记录的创建时间
+     */
+    private LocalDateTime createTime;
+
+    /**
+     * 上一页最后一条记录的ID
+     */
+    private Long id;
+
+    /**
+     * 根据实体生成游标
+     *
+     * @param entity 当前页最后一条记录
+     * @return 游标
+     */
+    public static KeysetCursor of(BaseEntity entity) {
+        return new KeysetCursor(entity.getCreateTime(), entity.getId());
+    }
+
+    /**
+     * 编码为不透明的游标字符串
+     *
+     * @return 游标字符串
+     */
+    public String encode() {
+        String raw = createTime + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析游标字符串
+     *
+     * @param token 游标字符串，为空表示第一页
+     * @return 游标，第一页时返回 null
+     * @throws IllegalArgumentException 游标格式不合法
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+            if (index <= 0) {
+                throw new IllegalArgumentException("无效的分页游标");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, index)),
+                    Long.valueOf(raw.substring(index + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("无效的分页游标", e);
+        }
+    }
+}
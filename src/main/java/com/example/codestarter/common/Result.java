@@ -4,6 +4,8 @@ import lombok.Data;
 
 /**
  * 统一 API 返回结果
+ * <p>
+ * 序列化由 {@link com.example.codestarter.common.json.ResultSerializer} 完成
  * 
  * @param <T> 数据类型
  */
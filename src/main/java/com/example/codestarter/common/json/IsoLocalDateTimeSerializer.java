@@ -0,0 +1,85 @@
+package com.example.codestarter.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 按 ISO-8601（{@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}）序列化 {@link LocalDateTime}
+ * <p>
+ * 输出与 jsr310 模块的默认实现一致：秒始终输出，纳秒不为 0 时输出去掉末尾 0 的小数部分。
+ * 通过查表直接写出字符，不经过 {@link DateTimeFormatter} 的格式解析和中间字符串；
+ * 年份超出四位或开启 WRITE_DATES_AS_TIMESTAMPS 时回退到默认实现。
+ */
+public class IsoLocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
+
+    /**
+     * yyyy-MM-ddTHH:mm:ss.nnnnnnnnn 的最大长度
+     */
+    private static final int MAX_LENGTH = 29;
+
+    /**
+     * 00 ~ 99 的两位数字字符
+     */
+    private static final char[] DIGITS = new char[200];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGITS[i * 2] = (char) ('0' + i / 10);
+            DIGITS[i * 2 + 1] = (char) ('0' + i % 10);
+        }
+    }
+
+    public IsoLocalDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999 || provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            LocalDateTimeSerializer.INSTANCE.serialize(value, gen, provider);
+            return;
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        writeTwoDigits(buffer, 0, year / 100);
+        writeTwoDigits(buffer, 2, year % 100);
+        buffer[4] = '-';
+        writeTwoDigits(buffer, 5, value.getMonthValue());
+        buffer[7] = '-';
+        writeTwoDigits(buffer, 8, value.getDayOfMonth());
+        buffer[10] = 'T';
+        writeTwoDigits(buffer, 11, value.getHour());
+        buffer[13] = ':';
+        writeTwoDigits(buffer, 14, value.getMinute());
+        buffer[16] = ':';
+        writeTwoDigits(buffer, 17, value.getSecond());
+        int length = 19;
+        int nano = value.getNano();
+        if (nano != 0) {
+            buffer[length++] = '.';
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            for (int i = length + digits - 1; i >= length; i--) {
+                buffer[i] = (char) ('0' + nano % 10);
+                nano /= 10;
+            }
+            length += digits;
+        }
+        gen.writeString(buffer, 0, length);
+    }
+
+    private static void writeTwoDigits(char[] buffer, int offset, int value) {
+        buffer[offset] = DIGITS[value * 2];
+        buffer[offset + 1] = DIGITS[value * 2 + 1];
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.codestarter.common.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 宽松的 {@link LocalDateTime} 反序列化
+ * <p>
+ * 除 jsr310 模块默认支持的 ISO-8601 格式外，也接受日期与时间以空格分隔的 yyyy-MM-dd HH:mm:ss[.SSS] 格式
+ */
+public class LenientLocalDateTimeDeserializer extends StdDeserializer<LocalDateTime> {
+
+    private static final int DATE_TIME_SEPARATOR = 10;
+
+    public LenientLocalDateTimeDeserializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            String text = p.getText().trim();
+            if (text.length() > DATE_TIME_SEPARATOR && text.charAt(DATE_TIME_SEPARATOR) == ' ') {
+                String iso = text.substring(0, DATE_TIME_SEPARATOR) + 'T' + text.substring(DATE_TIME_SEPARATOR + 1);
+                try {
+                    return LocalDateTime.parse(iso, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+                } catch (DateTimeParseException e) {
+                    return (LocalDateTime) ctxt.handleWeirdStringValue(LocalDateTime.class, text, e.getMessage());
+                }
+            }
+        }
+        return LocalDateTimeDeserializer.INSTANCE.deserialize(p, ctxt);
+    }
+}
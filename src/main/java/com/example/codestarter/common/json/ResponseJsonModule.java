@@ -0,0 +1,22 @@
+package com.example.codestarter.common.json;
+
+import com.example.codestarter.common.Result;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.time.LocalDateTime;
+
+/**
+ * 响应序列化模块
+ * <p>
+ * 注册 {@link ResultSerializer}，并以 {@link IsoLocalDateTimeSerializer}、{@link LenientLocalDateTimeDeserializer}
+ * 读写 {@link LocalDateTime}，输出格式与 jsr310 模块的默认 ISO-8601 一致。需在 JavaTimeModule 之后注册。
+ */
+public class ResponseJsonModule extends SimpleModule {
+
+    public ResponseJsonModule() {
+        super(ResponseJsonModule.class.getSimpleName());
+        addSerializer(Result.class, new ResultSerializer());
+        addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+        addDeserializer(LocalDateTime.class, new LenientLocalDateTimeDeserializer());
+    }
+}
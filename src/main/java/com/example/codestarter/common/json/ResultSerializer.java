@@ -0,0 +1,72 @@
+package com.example.codestarter.common.json;
+
+import com.example.codestarter.common.Result;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * {@link Result} 序列化器
+ * <p>
+ * 字段名预先编码，直接调用 getter 写出，省去 BeanSerializer 的反射调用；
+ * 字段顺序与默认序列化一致，全局配置 NON_NULL 等包含策略时跳过 null 字段。
+ */
+@SuppressWarnings("rawtypes")
+public class ResultSerializer extends StdSerializer<Result> {
+
+    private static final SerializableString CODE = new SerializedString("code");
+
+    private static final SerializableString MESSAGE = new SerializedString("message");
+
+    private static final SerializableString DATA = new SerializedString("data");
+
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+
+    public ResultSerializer() {
+        super(Result.class);
+    }
+
+    @Override
+    public void serialize(Result result, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        boolean skipNulls = skipNulls(provider);
+        gen.writeStartObject(result);
+        Integer code = result.getCode();
+        if (code != null) {
+            gen.writeFieldName(CODE);
+            gen.writeNumber(code);
+        } else if (!skipNulls) {
+            gen.writeFieldName(CODE);
+            gen.writeNull();
+        }
+        String message = result.getMessage();
+        if (message != null || !skipNulls) {
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(message);
+        }
+        Object data = result.getData();
+        if (data != null || !skipNulls) {
+            gen.writeFieldName(DATA);
+            provider.defaultSerializeValue(data, gen);
+        }
+        Long timestamp = result.getTimestamp();
+        if (timestamp != null) {
+            gen.writeFieldName(TIMESTAMP);
+            gen.writeNumber(timestamp);
+        } else if (!skipNulls) {
+            gen.writeFieldName(TIMESTAMP);
+            gen.writeNull();
+        }
+        gen.writeEndObject();
+    }
+
+    private boolean skipNulls(SerializerProvider provider) {
+        JsonInclude.Include inclusion = provider.getConfig()
+                .getDefaultPropertyInclusion(Result.class).getValueInclusion();
+        return inclusion != JsonInclude.Include.ALWAYS && inclusion != JsonInclude.Include.USE_DEFAULTS;
+    }
+}
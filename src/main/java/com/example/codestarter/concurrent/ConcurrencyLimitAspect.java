@@ -0,0 +1,111 @@
+package com.example.codestarter.concurrent;
+
+import com.example.codestarter.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BaseService 并发限制切面
+ * <p>
+ * 虚拟线程模式下请求线程数量不再受 Tomcat 线程池约束，大量线程会同时等待数据库连接，
+ * 直到 connection-timeout 才失败。此切面在进入事务之前以连接池大小为上限获取许可，
+ * 超过等待时间快速失败；同一线程内嵌套调用 BaseService 不会重复获取许可。
+ * 连接池大小由自适应调整改变时通过 {@link #resize(int)} 同步上限。
+ */
+@Slf4j
+@Aspect
+@Order(ConcurrencyLimitAspect.ORDER)
+public class ConcurrencyLimitAspect {
+
+    /**
+     * 切面顺序，位于指标切面之内、事务切面之外
+     */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 200;
+
+    private final ResizableSemaphore permits;
+
+    private int maxConcurrency;
+
+    private final long acquireTimeoutNanos;
+
+    private final ThreadLocal<Boolean> holding = new ThreadLocal<>();
+
+    public ConcurrencyLimitAspect(int maxConcurrency, Duration acquireTimeout) {
+        this.permits = new ResizableSemaphore(maxConcurrency);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Around("execution(* com.example.codestarter.service.BaseService.*(..))")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (holding.get() != null) {
+            return joinPoint.proceed();
+        }
+        if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+            log.warn("数据库并发已满，拒绝请求: {}", joinPoint.getSignature().toShortString());
+            throw BusinessException.SERVICE_BUSY;
+        }
+        holding.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            holding.remove();
+            permits.release();
+        }
+    }
+
+    /**
+     * 当前可用许可数
+     *
+     * @return 可用许可数
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 调整并发上限，缩小时已持有的许可在归还后才生效
+     *
+     * @param maxConcurrency 新的并发上限
+     */
+    public synchronized void resize(int maxConcurrency) {
+        int delta = maxConcurrency - this.maxConcurrency;
+        if (delta > 0) {
+            permits.release(delta);
+        } else if (delta < 0) {
+            permits.reduce(-delta);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * 当前并发上限
+     *
+     * @return 并发上限
+     */
+    public synchronized int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * 可减少许可的公平信号量
+     */
+    private static final class ResizableSemaphore extends Semaphore {
+
+        private ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        private void reduce(int reduction) {
+            reducePermits(reduction);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.codestarter.concurrent;
+
+import com.example.codestarter.config.OptimisticLockProperties;
+import com.example.codestarter.service.BaseService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 乐观锁冲突切面
+ * <p>
+ * 记录 BaseService 方法中发生的乐观锁冲突 {@value #CONFLICTS_NAME}（标签 entity、outcome），
+ * 对标注 {@link RetryOnConflict} 的方法按指数退避加全抖动（full jitter）重试，避免冲突的请求同时重试再次冲突。
+ * 切面位于指标切面之内、并发限制和事务切面之外，每次重试都是新的事务，退避期间不占用并发许可。
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(OptimisticLockRetryAspect.ORDER)
+@RequiredArgsConstructor
+public class OptimisticLockRetryAspect {
+
+    /**
+     * 切面顺序
+     */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 150;
+
+    public static final String CONFLICTS_NAME = "app.optimistic-lock.conflicts";
+
+    private final OptimisticLockProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Method, Boolean> retryable = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<Boolean> active = new ThreadLocal<>();
+
+    @Around("execution(* com.example.codestarter.service.BaseService.*(..)) "
+            + "|| @annotation(com.example.codestarter.concurrent.RetryOnConflict)")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 嵌套调用的冲突由最外层统一记录和处理
+        if (active.get() != null) {
+            return joinPoint.proceed();
+        }
+        active.set(Boolean.TRUE);
+        try {
+            return proceedWithRetry(joinPoint);
+        } finally {
+            active.remove();
+        }
+    }
+
+    private Object proceedWithRetry(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean retry = isRetryable(joinPoint) && !TransactionSynchronizationManager.isActualTransactionActive();
+        int maxAttempts = retry ? Math.max(1, properties.getMaxAttempts()) : 1;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                String entity = entityName(e, joinPoint.getTarget());
+                if (attempt >= maxAttempts) {
+                    conflicts(entity, "failed").increment();
+                    throw e;
+                }
+                conflicts(entity, "retried").increment();
+                long backoff = backoffMillis(attempt);
+                log.debug("乐观锁冲突，{} 毫秒后第 {} 次重试: {}", backoff, attempt,
+                        joinPoint.getSignature().toShortString());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 第 attempt 次失败后的退避时长，在 [0, min(maxBackoff, initialBackoff * multiplier^(attempt-1))] 内随机
+     *
+     * @param attempt 已失败次数
+     * @return 退避毫秒数
+     */
+    long backoffMillis(int attempt) {
+        double cap = properties.getInitialBackoff().toMillis() * Math.pow(properties.getMultiplier(), attempt - 1);
+        long bound = (long) Math.min(properties.getMaxBackoff().toMillis(), cap);
+        return bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    private boolean isRetryable(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Method specific = AopUtils.getMostSpecificMethod(method, AopUtils.getTargetClass(joinPoint.getTarget()));
+        return retryable.computeIfAbsent(specific,
+                m -> AnnotationUtils.findAnnotation(m, RetryOnConflict.class) != null);
+    }
+
+    private String entityName(OptimisticLockingFailureException e, Object target) {
+        if (e instanceof ObjectOptimisticLockingFailureException objectException) {
+            String className = objectException.getPersistentClassName();
+            if (className != null) {
+                return className.substring(className.lastIndexOf('.') + 1);
+            }
+        }
+        // JDBC 批处理返回的 StaleStateException 不带实体类型，按 Service 的泛型参数推断
+        Class<?>[] arguments = GenericTypeResolver.resolveTypeArguments(AopUtils.getTargetClass(target),
+                BaseService.class);
+        return arguments == null || arguments[0] == null ? "unknown" : arguments[0].getSimpleName();
+    }
+
+    private Counter conflicts(String entity, String outcome) {
+        return counters.computeIfAbsent(entity + '|' + outcome, key -> Counter.builder(CONFLICTS_NAME)
+                .description("乐观锁冲突次数")
+                .tag("entity", entity)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.codestarter.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 虚拟线程钉住（pinning）监控
+ * <p>
+ * 通过 JFR 事件 jdk.VirtualThreadPinned 检测虚拟线程在 synchronized 块或本地方法中阻塞而无法让出载体线程的情况，
+ * 典型来源是 JDBC 驱动内部的 synchronized 代码。超过阈值的事件会记录告警日志并计入
+ * {@value #COUNTER_NAME} 指标，便于定位需要替换为 ReentrantLock 的代码路径。
+ */
+@Slf4j
+public class PinnedThreadMonitor implements InitializingBean, DisposableBean {
+
+    public static final String COUNTER_NAME = "app.virtual-threads.pinned";
+
+    private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+
+    private final Counter pinnedCounter;
+
+    private RecordingStream recordingStream;
+
+    public PinnedThreadMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinnedCounter = Counter.builder(COUNTER_NAME)
+                .description("虚拟线程被钉住的次数")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(EVENT_NAME, this::onPinned);
+        recordingStream.startAsync();
+        log.info("虚拟线程钉住监控已启动，阈值: {}", threshold);
+    }
+
+    @Override
+    public void destroy() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        if (log.isWarnEnabled()) {
+            List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+            String stack = frames.stream()
+                    .limit(LOGGED_FRAMES)
+                    .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                            + ":" + frame.getLineNumber())
+                    .collect(Collectors.joining("\n    at "));
+            log.warn("虚拟线程被钉住 {} ms，线程: {}\n    at {}", event.getDuration().toMillis(),
+                    event.getThread() == null ? "unknown" : event.getThread().getJavaName(), stack);
+        }
+    }
+}
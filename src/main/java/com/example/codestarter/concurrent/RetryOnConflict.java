@@ -0,0 +1,19 @@
+package com.example.codestarter.concurrent;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记发生乐观锁冲突时可以整体重试的方法
+ * <p>
+ * 只适用于在方法内部重新读取数据再修改的读-修改-写操作；直接保存调用方传入的旧版本实体重试也必然失败。
+ * 方法需自行开启事务，已处于外层事务中时不重试，由外层事务的调用方处理冲突。
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,70 @@
+package com.example.codestarter.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 虚拟线程工具类
+ * <p>
+ * 项目以 Java 17 编译，虚拟线程 API（Java 21）通过反射调用，运行在 Java 21 及以上版本时可用。
+ */
+public final class VirtualThreads {
+
+    private static final int MINIMUM_FEATURE_VERSION = 21;
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * 当前运行时是否支持虚拟线程
+     *
+     * @return 是否支持
+     */
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= MINIMUM_FEATURE_VERSION;
+    }
+
+    /**
+     * 创建虚拟线程工厂，线程名为 prefix + 序号
+     *
+     * @param prefix 线程名前缀
+     * @return 线程工厂
+     */
+    public static ThreadFactory threadFactory(String prefix) {
+        checkSupported();
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            Method name = ofVirtual.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, prefix, 0L);
+            return (ThreadFactory) ofVirtual.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("创建虚拟线程工厂失败", e);
+        }
+    }
+
+    /**
+     * 创建每个任务一个虚拟线程的执行器
+     *
+     * @param prefix 线程名前缀
+     * @return 执行器
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        ThreadFactory threadFactory = threadFactory(prefix);
+        try {
+            Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) method.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("创建虚拟线程执行器失败", e);
+        }
+    }
+
+    private static void checkSupported() {
+        if (!isSupported()) {
+            throw new IllegalStateException("虚拟线程需要 Java " + MINIMUM_FEATURE_VERSION
+                    + " 及以上版本，当前版本: " + Runtime.version());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.codestarter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 异步 Service 执行器配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.async-service")
+public class AsyncServiceProperties {
+
+    /**
+     * 执行器线程数，小于等于 0 时为 Hikari 连接池大小的一半；不超过连接池大小减一，
+     * 为已持有连接、正在等待异步结果的调用方保留连接
+     */
+    private int poolSize = 0;
+
+    /**
+     * 等待队列长度，队列满时新任务以 503 业务异常失败
+     */
+    private int queueCapacity = 1000;
+}
@@ -0,0 +1,30 @@
+package com.example.codestarter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 主键查询合并配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.batch-loader")
+public class BatchLoaderProperties {
+
+    /**
+     * 是否合并并发的主键查询，关闭时直接调用 Service
+     * 开启后每个查询至少等待一个时间窗口并切换一次线程，只在同一实体的主键查询并发很高时才有收益
+     */
+    private boolean enabled = false;
+
+    /**
+     * 收集查询的时间窗口，窗口内的查询合并为一条 IN 查询
+     */
+    private Duration window = Duration.ofMillis(2);
+
+    /**
+     * 单批最多 ID 数量，达到后立即发出查询
+     */
+    private int maxBatchSize = 100;
+}
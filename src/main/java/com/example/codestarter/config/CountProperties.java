@@ -0,0 +1,30 @@
+package com.example.codestarter.config;
+
+import com.example.codestarter.service.count.CountMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 记录数统计配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.count")
+public class CountProperties {
+
+    /**
+     * 未指定统计方式时使用的默认方式
+     */
+    private CountMode defaultMode = CountMode.EXACT;
+
+    /**
+     * CACHED 方式的缓存时间
+     */
+    private Duration cachedTtl = Duration.ofSeconds(30);
+
+    /**
+     * INCREMENTAL 方式重新精确统计的间隔
+     */
+    private Duration incrementalResyncInterval = Duration.ofMinutes(10);
+}
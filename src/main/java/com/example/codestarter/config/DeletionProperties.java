@@ -0,0 +1,58 @@
+package com.example.codestarter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 后台删除任务配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.deletion")
+public class DeletionProperties {
+
+    /**
+     * 每批处理的记录数，每批一个独立事务
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 每秒最多处理的记录数，小于等于 0 表示不限速
+     */
+    private int rowsPerSecond = 5000;
+
+    /**
+     * 同时运行的后台删除任务数
+     */
+    private int concurrency = 1;
+
+    /**
+     * 已结束任务的进度保留时间
+     */
+    private Duration jobRetention = Duration.ofHours(24);
+
+    /**
+     * 已逻辑删除数据的定时清理
+     */
+    private Purge purge = new Purge();
+
+    @Data
+    public static class Purge {
+
+        /**
+         * 是否启用定时清理
+         */
+        private boolean enabled = false;
+
+        /**
+         * 逻辑删除超过该天数的记录会被物理删除
+         */
+        private int retentionDays = 30;
+
+        /**
+         * 清理任务的 cron 表达式
+         */
+        private String cron = "0 30 3 * * *";
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.codestarter.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 已逻辑删除数据的定时清理配置
+ * 开启 app.deletion.purge.enabled 后启用定时任务
+ */
+@EnableScheduling
+@Configuration
+@ConditionalOnProperty(prefix = "app.deletion.purge", name = "enabled", havingValue = "true")
+public class DeletionPurgeConfig {
+}
@@ -0,0 +1,23 @@
+package com.example.codestarter.config;
+
+import com.example.codestarter.cache.CaffeineEntityCache;
+import com.example.codestarter.cache.EntityCache;
+import com.example.codestarter.cache.NoOpEntityCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 实体缓存配置
+ * 可通过声明 @Primary 的 {@link EntityCache} Bean 替换默认实现
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    @Bean
+    public EntityCache entityCache(EntityCacheProperties properties) {
+        if (!properties.isEnabled()) {
+            return new NoOpEntityCache();
+        }
+        return new CaffeineEntityCache(properties.getMaximumSize(), properties.getExpireAfterWrite());
+    }
+}
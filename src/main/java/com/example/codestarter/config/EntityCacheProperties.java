@@ -0,0 +1,29 @@
+package com.example.codestarter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 实体缓存配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache.entity")
+public class EntityCacheProperties {
+
+    /**
+     * 是否启用实体缓存
+     */
+    private boolean enabled = false;
+
+    /**
+     * 最大缓存条数
+     */
+    private long maximumSize = 10000;
+
+    /**
+     * 写入后过期时间
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+}
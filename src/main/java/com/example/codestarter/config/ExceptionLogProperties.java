@@ -0,0 +1,34 @@
+package com.example.codestarter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.logging.LogLevel;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 异常日志配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.exception-log")
+public class ExceptionLogProperties {
+
+    /**
+     * 每个异常类每秒最多输出的日志条数，超出部分只计数，0 表示不限制
+     */
+    private int maxPerSecond = 10;
+
+    /**
+     * 未配置的异常类使用的日志级别，OFF 表示不输出
+     */
+    private LogLevel defaultLevel = LogLevel.ERROR;
+
+    /**
+     * 按异常类名配置日志级别，子类继承父类的配置
+     */
+    private Map<String, LogLevel> levels = new LinkedHashMap<>(Map.of(
+            "com.example.codestarter.exception.BusinessException", LogLevel.INFO,
+            "org.springframework.dao.OptimisticLockingFailureException", LogLevel.WARN,
+            "java.lang.IllegalArgumentException", LogLevel.WARN));
+}
@@ -0,0 +1,19 @@
+package com.example.codestarter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 流式导出配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.export")
+public class ExportProperties {
+
+    /**
+     * 导出请求的异步超时时间，只作用于导出接口，其他异步请求仍使用 spring.mvc.async.request-timeout
+     */
+    private Duration timeout = Duration.ofMinutes(10);
+}
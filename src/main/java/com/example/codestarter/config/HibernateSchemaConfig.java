@@ -0,0 +1,25 @@
+package com.example.codestarter.config;
+
+import com.example.codestarter.repository.support.BaseEntityIndexIntegrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Hibernate 表结构配置
+ * 为所有 BaseEntity 表补充通用查询所需的索引，由 ddl-auto 创建
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.persistence", name = "base-indexes", havingValue = "true", matchIfMissing = true)
+public class HibernateSchemaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer baseEntityIndexCustomizer() {
+        return properties -> properties.put("hibernate.integrator_provider",
+                (IntegratorProvider) () -> List.of(new BaseEntityIndexIntegrator()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.codestarter.config;
+
+import com.example.codestarter.common.json.ResponseJsonModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 配置
+ * LocalDateTime 保持 ISO-8601 格式，不受 spring.jackson.date-format 影响
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * 响应序列化模块，由 Spring Boot 注册到 ObjectMapper，排在 JavaTimeModule 之后
+     *
+     * @return 序列化模块
+     */
+    @Bean
+    public ResponseJsonModule responseJsonModule() {
+        return new ResponseJsonModule();
+    }
+}
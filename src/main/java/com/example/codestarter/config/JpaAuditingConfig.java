@@ -1,13 +1,28 @@
 package com.example.codestarter.config;
 
+import com.example.codestarter.entity.BaseEntity;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.util.Optional;
+
 /**
  * JPA 审计配置
  * 启用自动审计功能，自动填充创建时间和更新时间
  */
 @Configuration
-@EnableJpaAuditing
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
 public class JpaAuditingConfig {
-}
\ No newline at end of file
+
+    /**
+     * 审计时间提供者，时间精度与数据库保持一致
+     *
+     * @return 时间提供者
+     */
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider() {
+        return () -> Optional.of(BaseEntity.now());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.codestarter.config;
+
+import com.example.codestarter.CodeStarterApplication;
+import com.example.codestarter.common.CursorPage;
+import com.example.codestarter.common.Result;
+import com.example.codestarter.entity.BaseEntity;
+import com.example.codestarter.entity.EntityVersion;
+import com.example.codestarter.exception.ErrorBody;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.util.ClassUtils;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GraalVM native image 所需的运行时提示（构建期由 Spring AOT 处理）
+ * <ul>
+ *     <li>BaseEntity 及应用包下的全部子类：Hibernate 按字段读写，Jackson 通过 Lombok 生成的访问器序列化；
+ *     BaseController 的返回类型是泛型 T，Spring 无法从控制器方法推断出实体类型</li>
+ *     <li>EntityVersion 等投影：Hibernate 通过构造方法实例化</li>
+ *     <li>响应体 Result、ErrorBody、CursorPage 以及分页的 PageImpl、SliceImpl</li>
+ *     <li>QueryStatsDataSource 的 JDBC 动态代理接口</li>
+ * </ul>
+ * BaseRepository 中 {@code #{#entityName}} 由 Spring Data 以 SpEL 变量替换，不涉及反射；
+ * 仓库接口代理、SpringDoc、Hibernate、Caffeine、MySQL 驱动的元数据由各自的 AOT 支持或 GraalVM 元数据仓库提供。
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> entityType : entityTypes(classLoader)) {
+            hints.reflection().registerType(entityType, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+            bindingHints.registerReflectionHints(hints.reflection(), entityType);
+        }
+        hints.reflection().registerType(EntityVersion.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        bindingHints.registerReflectionHints(hints.reflection(), EntityVersion.class, Result.class, ErrorBody.class,
+                CursorPage.class, PageImpl.class, SliceImpl.class);
+        for (Class<?> jdbcType : List.of(Connection.class, Statement.class, PreparedStatement.class,
+                CallableStatement.class, ResultSet.class)) {
+            hints.proxies().registerJdkProxy(jdbcType);
+        }
+        hints.resources().registerPattern("logback-spring.xml");
+    }
+
+    /**
+     * BaseEntity 及应用包下的非抽象子类
+     */
+    private static List<Class<?>> entityTypes(ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter(new AssignableTypeFilter(BaseEntity.class));
+        List<Class<?>> types = new ArrayList<>();
+        types.add(BaseEntity.class);
+        for (BeanDefinition candidate : scanner.findCandidateComponents(CodeStarterApplication.class.getPackageName())) {
+            types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+        return types;
+    }
+}
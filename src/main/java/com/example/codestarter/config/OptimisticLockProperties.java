@@ -0,0 +1,34 @@
+package com.example.codestarter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 乐观锁冲突重试配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.optimistic-lock")
+public class OptimisticLockProperties {
+
+    /**
+     * 最大尝试次数（含首次），1 表示不重试
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 首次重试的退避上限
+     */
+    private Duration initialBackoff = Duration.ofMillis(20);
+
+    /**
+     * 退避上限的增长倍数
+     */
+    private double multiplier = 2.0;
+
+    /**
+     * 单次退避的最大时长
+     */
+    private Duration maxBackoff = Duration.ofMillis(500);
+}
@@ -0,0 +1,43 @@
+package com.example.codestarter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 持久化相关配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.persistence")
+public class PersistenceProperties {
+
+    /**
+     * 批量写入时每批的条数，同时决定 flush/detach 的频率
+     */
+    private int batchSize = 500;
+
+    /**
+     * 批量删除时每条语句 IN 列表中的 ID 数量
+     */
+    private int deleteChunkSize = 1000;
+
+    /**
+     * 按 ID 集合查询时每条语句 IN 列表中的 ID 数量
+     */
+    private int inClauseSize = 1000;
+
+    /**
+     * 流式查询的 fetch size；MySQL 设为 Integer.MIN_VALUE 时逐行流式读取，
+     * 消费期间同一连接不能执行其他语句
+     */
+    private int streamFetchSize = 1000;
+
+    /**
+     * 是否为 BaseEntity 表补充 (deleted, create_time, id) 等通用索引，由 ddl-auto 创建
+     */
+    private boolean baseIndexes = true;
+
+    /**
+     * 是否在启动时检查 BaseEntity 表的通用索引，缺少时输出告警
+     */
+    private boolean indexCheck = true;
+}
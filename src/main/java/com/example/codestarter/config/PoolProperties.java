@@ -0,0 +1,83 @@
+package com.example.codestarter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 连接池观测与调优配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.pool")
+public class PoolProperties {
+
+    /**
+     * 是否按 BaseService 方法记录连接获取、占用指标
+     */
+    private boolean enabled = true;
+
+    /**
+     * 是否发布百分位直方图
+     */
+    private boolean percentileHistogram = false;
+
+    /**
+     * 连接占用超过该时长视为泄漏，记录所属事务和调用方，0 表示关闭
+     */
+    private Duration leakThreshold = Duration.ofSeconds(60);
+
+    /**
+     * 连接获取等待预算，连接池已耗尽且近期平均等待超过预算时，新的 BaseService 调用直接以 503 拒绝，0 表示关闭
+     */
+    private Duration acquireBudget = Duration.ofMillis(500);
+
+    /**
+     * 自适应连接池大小
+     */
+    private Adaptive adaptive = new Adaptive();
+
+    @Data
+    public static class Adaptive {
+
+        /**
+         * 是否根据等待时间和连接占用时长自动调整连接池大小
+         */
+        private boolean enabled = false;
+
+        /**
+         * 连接池大小下限
+         */
+        private int minSize = 5;
+
+        /**
+         * 连接池大小上限
+         */
+        private int maxSize = 50;
+
+        /**
+         * 每次调整的连接数
+         */
+        private int step = 2;
+
+        /**
+         * 评估周期
+         */
+        private Duration interval = Duration.ofSeconds(10);
+
+        /**
+         * 平均获取等待超过该值时扩容
+         */
+        private Duration targetWait = Duration.ofMillis(20);
+
+        /**
+         * 平均连接占用时长（近似数据库耗时）超过该值时不扩容，避免加重数据库负载
+         */
+        private Duration maxDbLatency = Duration.ofMillis(200);
+
+        /**
+         * 连续多少个周期无等待且活跃连接不足一半时缩容
+         */
+        private int shrinkAfter = 6;
+    }
+}
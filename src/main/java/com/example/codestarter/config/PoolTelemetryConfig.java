@@ -0,0 +1,76 @@
+package com.example.codestarter.config;
+
+import com.example.codestarter.concurrent.ConcurrencyLimitAspect;
+import com.example.codestarter.datasource.pool.AdaptivePoolSizer;
+import com.example.codestarter.datasource.pool.PoolCallerAspect;
+import com.example.codestarter.datasource.pool.PoolTelemetry;
+import com.example.codestarter.datasource.pool.PoolTransactionAspect;
+import com.example.codestarter.datasource.query.QueryStatsDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 连接池观测与调优配置
+ * <p>
+ * 容器中的 HikariDataSource 在启动前注册 {@link PoolTelemetry}，读写分离的从库连接池由
+ * {@link ReadWriteRoutingConfig} 注册；开启 app.pool.adaptive.enabled 后自动调整连接池大小。
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.pool", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PoolTelemetryConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public PoolTelemetry poolTelemetry(MeterRegistry meterRegistry, PoolProperties properties) {
+        return new PoolTelemetry(meterRegistry, properties);
+    }
+
+    /**
+     * 为 HikariDataSource（包括已包装为 QueryStatsDataSource 的）注册指标，已配置其他指标的连接池保持不变
+     */
+    @Bean
+    public static BeanPostProcessor poolTelemetryPostProcessor(ObjectProvider<PoolTelemetry> poolTelemetry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                Object target = bean instanceof QueryStatsDataSource statsDataSource
+                        ? statsDataSource.getTargetDataSource() : bean;
+                if (target instanceof HikariDataSource dataSource && dataSource.getMetricsTrackerFactory() == null
+                        && dataSource.getMetricRegistry() == null) {
+                    poolTelemetry.getObject().register(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public PoolCallerAspect poolCallerAspect(PoolTelemetry poolTelemetry, MeterRegistry meterRegistry) {
+        return new PoolCallerAspect(poolTelemetry, meterRegistry);
+    }
+
+    @Bean
+    public PoolTransactionAspect poolTransactionAspect(PoolTelemetry poolTelemetry) {
+        return new PoolTransactionAspect(poolTelemetry);
+    }
+
+    /**
+     * 并发上限由连接池大小推导（app.virtual-threads.max-concurrency 为 0）时随主库连接池一起调整
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "app.pool.adaptive", name = "enabled", havingValue = "true")
+    public AdaptivePoolSizer adaptivePoolSizer(PoolTelemetry poolTelemetry, PoolProperties properties,
+                                               MeterRegistry meterRegistry,
+                                               VirtualThreadProperties virtualThreadProperties,
+                                               ObjectProvider<ConcurrencyLimitAspect> concurrencyLimit) {
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(poolTelemetry, properties.getAdaptive(), meterRegistry);
+        if (virtualThreadProperties.getMaxConcurrency() <= 0) {
+            concurrencyLimit.ifAvailable(sizer::setConcurrencyLimit);
+        }
+        return sizer;
+    }
+}
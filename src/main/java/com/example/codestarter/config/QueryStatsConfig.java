@@ -0,0 +1,50 @@
+package com.example.codestarter.config;
+
+import com.example.codestarter.datasource.query.QueryStats;
+import com.example.codestarter.datasource.query.QueryStatsDataSource;
+import com.example.codestarter.datasource.query.QueryStatsEndpoint;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 执行统计配置
+ * <p>
+ * 开启 app.query-stats.enabled 后应用数据源（名为 dataSource 的 Bean）包装为 {@link QueryStatsDataSource}，
+ * 统计结果通过 /actuator/queries 查看，该端点默认不通过 HTTP 暴露。
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.query-stats", name = "enabled", havingValue = "true")
+public class QueryStatsConfig {
+
+    @Bean
+    public QueryStats queryStats(QueryStatsProperties properties) {
+        return new QueryStats(properties);
+    }
+
+    @Bean
+    public static BeanPostProcessor queryStatsPostProcessor(ObjectProvider<QueryStats> queryStats) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof QueryStatsDataSource)) {
+                    return new QueryStatsDataSource(dataSource, queryStats.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public QueryStatsEndpoint queryStatsEndpoint(QueryStats queryStats, DataSource dataSource,
+                                                 QueryStatsProperties properties) {
+        DataSource target = dataSource instanceof QueryStatsDataSource statsDataSource
+                ? statsDataSource.getTargetDataSource() : dataSource;
+        return new QueryStatsEndpoint(queryStats, target, properties);
+    }
+}
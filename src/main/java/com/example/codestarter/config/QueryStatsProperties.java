@@ -0,0 +1,55 @@
+package com.example.codestarter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * SQL 执行统计配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.query-stats")
+public class QueryStatsProperties {
+
+    /**
+     * 是否按 SQL 与调用方统计执行耗时、返回行数和参数个数
+     * 开启后 Connection、Statement 与 ResultSet 的每次调用都经过反射代理，只在排查慢查询时开启
+     */
+    private boolean enabled = false;
+
+    /**
+     * 执行耗时超过该值视为慢查询，保留最近一次的 SQL 与参数用于 EXPLAIN，0 表示关闭
+     */
+    private Duration slowThreshold = Duration.ofMillis(200);
+
+    /**
+     * 最多统计的 SQL 数量，超出后新的 SQL 不再统计
+     */
+    private int maxQueries = 1000;
+
+    /**
+     * 端点默认返回的条数
+     */
+    private int topN = 10;
+
+    /**
+     * 是否记录慢查询的绑定参数，用于对带参数的慢查询执行 EXPLAIN；参数可能包含敏感数据，关闭后只统计参数个数
+     */
+    private boolean captureParameters = false;
+
+    /**
+     * 是否允许端点在查看单条统计时对慢查询执行 EXPLAIN
+     */
+    private boolean explainEnabled = false;
+
+    /**
+     * 是否允许端点清空统计（DELETE /actuator/queries）
+     */
+    private boolean resetEnabled = false;
+
+    /**
+     * 是否在日志中输出慢查询
+     */
+    private boolean logSlow = true;
+}
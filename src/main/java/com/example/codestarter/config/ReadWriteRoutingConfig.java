@@ -0,0 +1,94 @@
+package com.example.codestarter.config;
+
+import com.example.codestarter.datasource.ReadWriteRoutingDataSource;
+import com.example.codestarter.datasource.ReadYourWritesFilter;
+import com.example.codestarter.datasource.ReplicaLagMonitor;
+import com.example.codestarter.datasource.ReplicaNode;
+import com.example.codestarter.datasource.pool.PoolTelemetry;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 读写分离配置
+ * <p>
+ * 开启 app.datasource.routing.enabled 后，spring.datasource 作为主库，app.datasource.routing.replicas 作为从库，
+ * {@code @Transactional(readOnly = true)} 的事务路由到复制延迟在阈值内的从库。
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    /**
+     * 主库连接池，沿用 spring.datasource 与 spring.datasource.hikari 配置
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                 DataSourceProperties dataSourceProperties,
+                                                                 ReadWriteRoutingProperties properties,
+                                                                 ObjectProvider<PoolTelemetry> poolTelemetry) {
+        List<ReplicaNode> replicas = new ArrayList<>();
+        for (ReadWriteRoutingProperties.Replica replica : properties.getReplicas()) {
+            String name = replica.getName() != null ? replica.getName() : "replica-" + replicas.size();
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername()
+                    : dataSourceProperties.determineUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword()
+                    : dataSourceProperties.determinePassword());
+            dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            poolTelemetry.ifAvailable(telemetry -> telemetry.registerReplica(dataSource));
+            replicas.add(new ReplicaNode(name, dataSource));
+        }
+        log.info("已启用读写分离，从库数量: {}, 选择方式: {}", replicas.size(), properties.getSelection());
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, properties.getSelection(),
+                properties.getReadYourWritesWindow());
+    }
+
+    /**
+     * 应用使用的数据源，延迟获取物理连接以便按事务只读标记路由
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(ReadWriteRoutingDataSource readWriteRoutingDataSource,
+                                               ReadWriteRoutingProperties properties) {
+        return new ReplicaLagMonitor(readWriteRoutingDataSource.getReplicas(), properties.getMaxLag(),
+                properties.getLagCheckInterval(), properties.getLagQuery());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
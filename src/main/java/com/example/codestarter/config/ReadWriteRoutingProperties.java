@@ -0,0 +1,81 @@
+package com.example.codestarter.config;
+
+import com.example.codestarter.datasource.ReplicaSelection;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 读写分离配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class ReadWriteRoutingProperties {
+
+    /**
+     * 是否启用读写分离，启用后只读事务路由到从库，其余路由到 spring.datasource 主库
+     */
+    private boolean enabled = false;
+
+    /**
+     * 从库选择方式
+     */
+    private ReplicaSelection selection = ReplicaSelection.ROUND_ROBIN;
+
+    /**
+     * 允许的最大复制延迟，超过时该从库暂停接收读请求
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * 复制延迟检测间隔
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * 复制延迟查询，返回延迟秒数；为空时使用 MySQL 的 SHOW REPLICA STATUS
+     */
+    private String lagQuery;
+
+    /**
+     * 同一请求写入后，只读事务继续读主库的时间窗口，保证读到自己的写入
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(2);
+
+    /**
+     * 从库列表
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+
+        /**
+         * 从库名称，用于日志和连接池命名
+         */
+        private String name;
+
+        /**
+         * JDBC URL
+         */
+        private String url;
+
+        /**
+         * 用户名，为空时与主库一致
+         */
+        private String username;
+
+        /**
+         * 密码，为空时与主库一致
+         */
+        private String password;
+
+        /**
+         * 连接池最大连接数
+         */
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.codestarter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Service 方法指标配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.metrics.service")
+public class ServiceMetricsProperties {
+
+    /**
+     * 是否采集 BaseService 方法指标，关闭后不创建切面，无额外开销
+     */
+    private boolean enabled = true;
+
+    /**
+     * 是否发布百分位直方图（Prometheus 中可用 histogram_quantile 聚合）
+     */
+    private boolean percentileHistogram = true;
+}
@@ -9,6 +9,7 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 /**
  * SpringDoc 配置类
@@ -18,11 +19,12 @@ import org.springframework.context.annotation.Configuration;
 public class SpringDocConfig {
 
     /**
-     * 配置 OpenAPI 文档信息
+     * 配置 OpenAPI 文档信息，与 SpringDoc 一起延迟到首次访问文档时创建
      *
      * @return OpenAPI 对象
      */
     @Bean
+    @Lazy
     public OpenAPI customOpenAPI() {
         return new OpenAPI()
                 .info(new Info()
@@ -0,0 +1,28 @@
+package com.example.codestarter.config;
+
+import com.example.codestarter.repository.support.SampledSqlLogger;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 日志配置
+ * 按 app.sql-log 注册采样 StatementInspector，并开启 Hibernate 慢查询日志
+ */
+@Configuration
+public class SqlLogConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlLogCustomizer(SqlLogProperties properties) {
+        return hibernateProperties -> {
+            if (properties.getSampleRate() > 0) {
+                hibernateProperties.put("hibernate.session_factory.statement_inspector",
+                        new SampledSqlLogger(properties.getSampleRate()));
+            }
+            long slowMillis = properties.getSlowThreshold().toMillis();
+            if (slowMillis > 0) {
+                hibernateProperties.put("hibernate.log_slow_query", slowMillis);
+            }
+        };
+    }
+}
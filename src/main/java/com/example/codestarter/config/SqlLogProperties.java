@@ -0,0 +1,25 @@
+package com.example.codestarter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * SQL 采样日志配置
+ * 关闭 show-sql 后仍按比例输出 SQL，并输出所有慢查询
+ */
+@Data
+@ConfigurationProperties(prefix = "app.sql-log")
+public class SqlLogProperties {
+
+    /**
+     * 每 N 条 SQL 输出一条（日志名 org.hibernate.SQL_SAMPLE，INFO 级别），0 关闭
+     */
+    private int sampleRate = 0;
+
+    /**
+     * 执行时长超过该值的 SQL 全部输出（日志名 org.hibernate.SQL_SLOW，INFO 级别），0 关闭
+     */
+    private Duration slowThreshold = Duration.ZERO;
+}
@@ -0,0 +1,69 @@
+package com.example.codestarter.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 启动耗时相关配置
+ * <p>
+ * SpringDoc 的 Bean（swagger-core 模型解析、文档端点、Swagger UI 映射）只服务于文档访问，
+ * 标记为延迟初始化后在首次访问 /v3/api-docs 或 /swagger-ui.html 时创建；
+ * app.startup.exit-on-ready 用于构建期 CDS 训练运行，启动完成即退出。
+ */
+@Slf4j
+@Configuration
+public class StartupConfig {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.startup", name = "lazy-springdoc", havingValue = "true", matchIfMissing = true)
+    public static BeanFactoryPostProcessor lazySpringDocPostProcessor() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (!definition.isLazyInit() && definition.getRole() != BeanDefinition.ROLE_INFRASTRUCTURE
+                        && declaringClassName(beanFactory, definition).startsWith(SPRINGDOC_PACKAGE)
+                        && !isPostProcessor(beanFactory, name)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> exitOnReadyListener(StartupProperties properties) {
+        return event -> {
+            if (properties.isExitOnReady()) {
+                log.info("启动完成，按 app.startup.exit-on-ready 退出");
+                System.exit(SpringApplication.exit(event.getApplicationContext()));
+            }
+        };
+    }
+
+    /**
+     * Bean 的声明类：{@code @Bean} 方法所在的配置类，或 Bean 本身的类
+     */
+    private static String declaringClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBeanName = definition.getFactoryBeanName();
+        String className = factoryBeanName != null && beanFactory.containsBeanDefinition(factoryBeanName)
+                ? beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName()
+                : definition.getBeanClassName();
+        return className != null ? className : "";
+    }
+
+    private static boolean isPostProcessor(ConfigurableListableBeanFactory beanFactory, String name) {
+        Class<?> type = beanFactory.getType(name, false);
+        return type == null || BeanPostProcessor.class.isAssignableFrom(type)
+                || BeanFactoryPostProcessor.class.isAssignableFrom(type);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.codestarter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 启动配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.startup")
+public class StartupProperties {
+
+    /**
+     * SpringDoc / Swagger 的 Bean 延迟到首次访问文档时创建
+     */
+    private boolean lazySpringdoc = true;
+
+    /**
+     * 启动完成后立即退出，用于构建期生成 CDS 归档的训练运行
+     */
+    private boolean exitOnReady = false;
+}
@@ -0,0 +1,89 @@
+package com.example.codestarter.config;
+
+import com.example.codestarter.concurrent.ConcurrencyLimitAspect;
+import com.example.codestarter.concurrent.PinnedThreadMonitor;
+import com.example.codestarter.concurrent.VirtualThreads;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 虚拟线程模式配置
+ * <p>
+ * 开启 app.virtual-threads.enabled 后，Tomcat 请求处理、@Async 任务和定时任务均运行在虚拟线程上，
+ * 并以连接池大小限制 BaseService 并发，同时监控虚拟线程被钉住的情况。需要 Java 21 及以上版本。
+ */
+@Slf4j
+@EnableAsync
+@EnableScheduling
+@Configuration
+@ConditionalOnProperty(prefix = "app.virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig() {
+        if (!VirtualThreads.isSupported()) {
+            throw new IllegalStateException("app.virtual-threads.enabled=true 需要 Java 21 及以上版本，当前版本: "
+                    + Runtime.version());
+        }
+        log.info("已启用虚拟线程模式");
+    }
+
+    /**
+     * Tomcat 请求处理执行器
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService tomcatVirtualThreadExecutor() {
+        return VirtualThreads.newThreadPerTaskExecutor("tomcat-vt-");
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(
+            ExecutorService tomcatVirtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(tomcatVirtualThreadExecutor);
+    }
+
+    /**
+     * &#64;Async 及 Spring MVC 异步请求使用的执行器
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(VirtualThreads.newThreadPerTaskExecutor("async-vt-"));
+    }
+
+    /**
+     * 定时任务调度器，调度线程与任务执行均使用虚拟线程
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Runtime.getRuntime().availableProcessors());
+        scheduler.setThreadFactory(VirtualThreads.threadFactory("scheduling-vt-"));
+        return scheduler;
+    }
+
+    @Bean
+    public ConcurrencyLimitAspect concurrencyLimitAspect(
+            VirtualThreadProperties properties,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        int maxConcurrency = properties.getMaxConcurrency() > 0 ? properties.getMaxConcurrency() : maximumPoolSize;
+        log.info("BaseService 最大并发数: {}", maxConcurrency);
+        return new ConcurrencyLimitAspect(maxConcurrency, properties.getAcquireTimeout());
+    }
+
+    @Bean
+    public PinnedThreadMonitor pinnedThreadMonitor(VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        return new PinnedThreadMonitor(properties.getPinnedThreshold(), meterRegistry);
+    }
+}
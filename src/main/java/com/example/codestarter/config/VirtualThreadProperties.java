@@ -0,0 +1,34 @@
+package com.example.codestarter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 虚拟线程配置
+ */
+@Data
+@ConfigurationProperties(prefix = "app.virtual-threads")
+public class VirtualThreadProperties {
+
+    /**
+     * 是否启用虚拟线程模式（需要 Java 21）
+     */
+    private boolean enabled = false;
+
+    /**
+     * BaseService 最大并发数，小于等于 0 时使用 Hikari 连接池大小
+     */
+    private int maxConcurrency = 0;
+
+    /**
+     * 等待并发许可的最长时间，超时快速失败
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 虚拟线程被钉住超过该时长时记录告警
+     */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+}
@@ -0,0 +1,140 @@
+package com.example.codestarter.controller;
+
+import com.example.codestarter.common.Result;
+import com.example.codestarter.config.AsyncTimeoutConfig;
+import com.example.codestarter.config.ExportProperties;
+import com.example.codestarter.entity.BaseEntity;
+import com.example.codestarter.entity.EntityVersion;
+import com.example.codestarter.exception.BusinessException;
+import com.example.codestarter.service.BaseService;
+import com.example.codestarter.service.count.CountMode;
+import com.example.codestarter.service.loader.BatchEntityLoader;
+import com.example.codestarter.service.loader.BatchLoaders;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 基础 Controller
+ * 为实体提供通用接口，子类通过 @RequestMapping 指定路径
+ *
+ * @param <T>  实体类型，需要继承 BaseEntity
+ * @param <ID> 主键类型
+ */
+@Slf4j
+public abstract class BaseController<T extends BaseEntity, ID> {
+
+    @Autowired
+    protected BaseService<T, ID> service;
+
+    private ObjectWriter ndjsonWriter;
+
+    private BatchEntityLoader<T, ID> loader;
+
+    private Duration exportTimeout;
+
+    @Autowired
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        // 逐行写入时不能由 Jackson 关闭响应输出流
+        this.ndjsonWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Autowired
+    public void setBatchLoaders(BatchLoaders batchLoaders) {
+        this.loader = batchLoaders.of(service);
+    }
+
+    @Autowired
+    public void setExportProperties(ExportProperties exportProperties) {
+        this.exportTimeout = exportProperties.getTimeout();
+    }
+
+    /**
+     * 根据 ID 查询未删除数据
+     * 开启 app.batch-loader.enabled 后并发请求在短时间窗口内合并为一条 IN 查询；响应携带由版本号和更新时间生成的 ETag、Last-Modified，
+     * 条件请求先只查询版本号，未变化时直接返回 304，不加载实体
+     *
+     * @param id      主键ID
+     * @param request 请求
+     * @return 实体对象
+     */
+    @Operation(summary = "查询详情", description = "根据 ID 查询未删除数据，支持 If-None-Match / If-Modified-Since")
+    @GetMapping("/{id}")
+    public ResponseEntity<Result<T>> get(@PathVariable ID id, WebRequest request) {
+        if (ConditionalRequests.isConditional(request)) {
+            Optional<EntityVersion> version = service.findVersionById(id);
+            if (version.isPresent() && ConditionalRequests.isNotModified(request, version.get())) {
+                return ConditionalRequests.validators(ResponseEntity.status(HttpStatus.NOT_MODIFIED),
+                        version.get().version(), version.get().updateTime()).build();
+            }
+        }
+        T entity = loader.findByIdAndNotDeleted(id).orElseThrow(() -> BusinessException.NOT_FOUND);
+        return ConditionalRequests.validators(ResponseEntity.ok(), entity.getVersion(), entity.getUpdateTime())
+                .body(Result.success(entity));
+    }
+
+    /**
+     * 分页查询未删除数据
+     *
+     * @param pageable  分页参数
+     * @param countMode 总数统计方式，为空时使用默认方式
+     * @return 分页结果
+     */
+    @Operation(summary = "分页查询", description = "分页查询未删除数据，可指定总数统计方式")
+    @GetMapping("/page")
+    public Result<Page<T>> page(
+            @ParameterObject Pageable pageable,
+            @Parameter(description = "总数统计方式：EXACT、CACHED、INCREMENTAL、ESTIMATED")
+            @RequestParam(required = false) CountMode countMode) {
+        return Result.success(service.findAllByPage(pageable, countMode));
+    }
+
+    /**
+     * 导出所有未删除数据
+     * 以 NDJSON 格式边读边写，每行一个实体，内存占用与数据量无关；异步超时取 app.export.timeout
+     *
+     * @param request 请求
+     * @return 流式响应
+     */
+    @Operation(summary = "导出数据", description = "以 NDJSON 格式流式导出所有未删除数据")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(WebRequest request) {
+        request.setAttribute(AsyncTimeoutConfig.TIMEOUT_ATTRIBUTE, exportTimeout, RequestAttributes.SCOPE_REQUEST);
+        StreamingResponseBody body = out -> {
+            long count = service.forEachNotDeleted(entity -> {
+                try {
+                    ndjsonWriter.writeValue(out, entity);
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+            log.debug("导出完成，数量: {}", count);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.codestarter.controller;
+
+import com.example.codestarter.entity.EntityVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * 基于实体版本号和更新时间的条件请求校验
+ * <p>
+ * ETag 取弱校验形式 W/"版本号"，响应压缩后依然有效；If-None-Match 存在时忽略 If-Modified-Since。
+ */
+final class ConditionalRequests {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * 请求是否携带条件头
+     */
+    static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    static String eTag(Integer version) {
+        return WEAK_PREFIX + "\"" + version + "\"";
+    }
+
+    /**
+     * 设置校验响应头：Cache-Control: no-cache、ETag，更新时间不为空时设置 Last-Modified
+     *
+     * @param builder    响应
+     * @param version    版本号
+     * @param updateTime 更新时间，可能为空
+     * @return 响应
+     */
+    static <B extends ResponseEntity.HeadersBuilder<B>> B validators(B builder, Integer version,
+                                                                     LocalDateTime updateTime) {
+        builder.cacheControl(CacheControl.noCache()).eTag(eTag(version));
+        if (updateTime != null) {
+            builder.lastModified(lastModified(updateTime));
+        }
+        return builder;
+    }
+
+    static Instant lastModified(LocalDateTime updateTime) {
+        return updateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    /**
+     * 客户端持有的版本是否仍然有效
+     *
+     * @param request 请求
+     * @param version 当前版本
+     * @return 有效时返回 true，可直接响应 304
+     */
+    static boolean isNotModified(WebRequest request, EntityVersion version) {
+        String[] ifNoneMatch = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        HttpHeaders headers = new HttpHeaders();
+        if (ifNoneMatch != null) {
+            headers.addAll(HttpHeaders.IF_NONE_MATCH, Arrays.asList(ifNoneMatch));
+            String current = eTag(version.version());
+            for (String candidate : headers.getIfNoneMatch()) {
+                if ("*".equals(candidate) || weak(candidate).equals(current)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        String ifModifiedSince = request.getHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        if (ifModifiedSince == null || version.updateTime() == null) {
+            return false;
+        }
+        headers.set(HttpHeaders.IF_MODIFIED_SINCE, ifModifiedSince);
+        long since = headers.getIfModifiedSince();
+        // HTTP 日期精确到秒
+        return since >= 0 && lastModified(version.updateTime()).getEpochSecond() * 1000 <= since;
+    }
+
+    private static String weak(String eTag) {
+        return eTag.startsWith(WEAK_PREFIX) ? eTag : WEAK_PREFIX + eTag;
+    }
+}
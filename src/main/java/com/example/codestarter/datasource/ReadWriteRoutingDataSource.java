@@ -0,0 +1,116 @@
+package com.example.codestarter.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 读写分离路由数据源
+ * <p>
+ * 只读事务路由到可用的从库，其余请求（写事务、无事务、同一请求写入后的时间窗口内）路由到主库。
+ * 路由依赖事务的只读标记，必须包装在 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * 中使用，使物理连接在事务同步初始化之后、第一条语句执行时才获取。
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * 主库路由键
+     */
+    public static final String PRIMARY = "primary";
+
+    private final List<ReplicaNode> replicas;
+
+    private final ReplicaSelection selection;
+
+    private final Duration readYourWritesWindow;
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<ReplicaNode> replicas, ReplicaSelection selection,
+                                      Duration readYourWritesWindow) {
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.readYourWritesWindow = readYourWritesWindow;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    /**
+     * 所有从库节点
+     *
+     * @return 从库节点
+     */
+    public List<ReplicaNode> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * 关闭所有从库连接池，主库连接池由容器管理
+     */
+    public void close() {
+        replicas.forEach(replica -> replica.getDataSource().close());
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriteOnCommit();
+            return PRIMARY;
+        }
+        if (ReadYourWritesContext.isWithin(readYourWritesWindow)) {
+            return PRIMARY;
+        }
+        ReplicaNode replica = selectReplica();
+        if (replica == null) {
+            log.debug("没有可用的从库，只读事务路由到主库");
+            return PRIMARY;
+        }
+        return replica.getName();
+    }
+
+    /**
+     * 选择一个可用的从库
+     *
+     * @return 从库节点，没有可用从库时返回 null
+     */
+    ReplicaNode selectReplica() {
+        List<ReplicaNode> available = replicas.stream().filter(ReplicaNode::isAvailable).toList();
+        if (available.isEmpty()) {
+            return null;
+        }
+        if (selection == ReplicaSelection.LEAST_LOADED) {
+            return available.stream().min(Comparator.comparingInt(ReplicaNode::getActiveConnections)).orElseThrow();
+        }
+        return available.get(Math.floorMod(counter.getAndIncrement(), available.size()));
+    }
+
+    /**
+     * 读写事务提交后记录写入时间，开启读己之写窗口
+     */
+    private void markWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadYourWritesContext.markWrite();
+            }
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.codestarter.datasource;
+
+import java.time.Duration;
+
+/**
+ * 当前线程最近一次写事务提交的时间
+ * 用于在写入后的短时间内把同一请求的只读事务也路由到主库，避免因复制延迟读不到刚写入的数据。
+ * 由 {@link ReadYourWritesFilter} 在请求结束时清理；异步线程不继承该状态。
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Long> LAST_WRITE = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * 记录一次写事务提交
+     */
+    public static void markWrite() {
+        LAST_WRITE.set(System.nanoTime());
+    }
+
+    /**
+     * 最近一次写入是否仍在窗口内
+     *
+     * @param window 时间窗口
+     * @return 是否在窗口内
+     */
+    public static boolean isWithin(Duration window) {
+        Long lastWrite = LAST_WRITE.get();
+        return lastWrite != null && System.nanoTime() - lastWrite < window.toNanos();
+    }
+
+    /**
+     * 清除当前线程的写入记录
+     */
+    public static void clear() {
+        LAST_WRITE.remove();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.codestarter.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 从库复制延迟监控
+ * 定期查询各从库的复制延迟，延迟超过阈值、复制中断或无法连接时暂停向该从库路由读请求，恢复后自动重新启用
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String MYSQL_LAG_QUERY = "SHOW REPLICA STATUS";
+
+    private final List<ReplicaNode> replicas;
+
+    private final Duration maxLag;
+
+    private final Duration interval;
+
+    private final String lagQuery;
+
+    private final boolean replicaStatusQuery;
+
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(List<ReplicaNode> replicas, Duration maxLag, Duration interval, String lagQuery) {
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        this.interval = interval;
+        this.replicaStatusQuery = lagQuery == null || lagQuery.isBlank();
+        this.lagQuery = replicaStatusQuery ? MYSQL_LAG_QUERY : lagQuery;
+    }
+
+    public void start() {
+        refresh();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("replica-lag-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        scheduler.scheduleWithFixedDelay(this::refresh, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 立即检测所有从库
+     */
+    public void refresh() {
+        for (ReplicaNode replica : replicas) {
+            boolean wasAvailable = replica.isAvailable();
+            long lag;
+            try {
+                lag = queryLag(replica);
+            } catch (SQLException | RuntimeException e) {
+                lag = -1;
+                if (wasAvailable) {
+                    log.warn("从库 {} 复制延迟检测失败，暂停读路由: {}", replica.getName(), e.getMessage());
+                }
+            }
+            boolean available = lag >= 0 && lag <= maxLag.toSeconds();
+            replica.update(lag, available);
+            if (wasAvailable && !available && lag >= 0) {
+                log.warn("从库 {} 复制延迟 {}s 超过阈值 {}s，暂停读路由", replica.getName(), lag, maxLag.toSeconds());
+            } else if (!wasAvailable && available) {
+                log.info("从库 {} 复制延迟恢复为 {}s，重新启用读路由", replica.getName(), lag);
+            }
+        }
+    }
+
+    /**
+     * 查询复制延迟（秒）
+     *
+     * @param replica 从库节点
+     * @return 延迟秒数，复制未运行时返回 -1
+     * @throws SQLException 查询失败
+     */
+    private long queryLag(ReplicaNode replica) throws SQLException {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return -1;
+            }
+            if (!replicaStatusQuery) {
+                return rs.getLong(1);
+            }
+            long lag = rs.getLong(lagColumn(rs.getMetaData()));
+            return rs.wasNull() ? -1 : lag;
+        }
+    }
+
+    private String lagColumn(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if ("Seconds_Behind_Source".equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return "Seconds_Behind_Source";
+            }
+        }
+        return "Seconds_Behind_Master";
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.codestarter.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.Getter;
+
+/**
+ * 从库节点及其健康状态
+ */
+@Getter
+public class ReplicaNode {
+
+    /**
+     * 从库名称，同时作为路由键
+     */
+    private final String name;
+
+    /**
+     * 从库连接池
+     */
+    private final HikariDataSource dataSource;
+
+    /**
+     * 最近一次检测到的复制延迟（秒），未知时为 -1
+     */
+    private volatile long lagSeconds = -1;
+
+    /**
+     * 是否可以接收读请求
+     */
+    private volatile boolean available = true;
+
+    public ReplicaNode(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 当前活跃连接数，连接池尚未启动时为 0
+     *
+     * @return 活跃连接数
+     */
+    public int getActiveConnections() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+
+    void update(long lagSeconds, boolean available) {
+        this.lagSeconds = lagSeconds;
+        this.available = available;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.codestarter.datasource;
+
+/**
+ * 从库选择方式
+ */
+public enum ReplicaSelection {
+
+    /**
+     * 在可用从库间轮询
+     */
+    ROUND_ROBIN,
+
+    /**
+     * 选择活跃连接数最少的从库
+     */
+    LEAST_LOADED
+}
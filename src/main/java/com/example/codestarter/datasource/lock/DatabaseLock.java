@@ -0,0 +1,101 @@
+package com.example.codestarter.datasource.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 跨实例互斥锁，用于定时任务等只允许一个实例执行的场景
+ * <p>
+ * MySQL / MariaDB 使用 GET_LOCK 会话级咨询锁：持锁期间占用主库的一个独立连接，连接断开时锁自动释放，
+ * 实例崩溃不会残留锁；持锁时间超过 app.pool.leak-threshold 时连接池会输出泄漏告警。
+ * 其他数据库（如测试使用的 H2）只在当前 JVM 内互斥。
+ */
+@Slf4j
+@Component
+public class DatabaseLock {
+
+    private final DataSource dataSource;
+
+    private final Map<String, ReentrantLock> localLocks = new ConcurrentHashMap<>();
+
+    private volatile Boolean advisoryLockSupported;
+
+    public DatabaseLock(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 获取锁后执行任务，锁已被持有时不等待，直接返回
+     *
+     * @param name 锁名称，MySQL 限制 64 个字符
+     * @param task 任务
+     * @return 是否获取到锁并执行了任务
+     */
+    public boolean runExclusively(String name, Runnable task) {
+        if (!isAdvisoryLockSupported()) {
+            return runLocally(name, task);
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            if (!query(connection, "SELECT GET_LOCK(?, 0)", name)) {
+                return false;
+            }
+            try {
+                task.run();
+            } finally {
+                query(connection, "SELECT RELEASE_LOCK(?)", name);
+            }
+            return true;
+        } catch (SQLException e) {
+            throw new CannotAcquireLockException("数据库锁操作失败: " + name, e);
+        }
+    }
+
+    private boolean runLocally(String name, Runnable task) {
+        ReentrantLock lock = localLocks.computeIfAbsent(name, key -> new ReentrantLock());
+        if (!lock.tryLock()) {
+            return false;
+        }
+        try {
+            task.run();
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    private boolean isAdvisoryLockSupported() {
+        Boolean supported = advisoryLockSupported;
+        if (supported == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                String product = connection.getMetaData().getDatabaseProductName();
+                supported = product.contains("MySQL") || product.contains("MariaDB");
+            } catch (SQLException e) {
+                throw new CannotAcquireLockException("读取数据库类型失败", e);
+            }
+            if (!supported) {
+                log.info("数据库不支持 GET_LOCK，DatabaseLock 仅在当前实例内互斥");
+            }
+            advisoryLockSupported = supported;
+        }
+        return supported;
+    }
+
+    private static boolean query(Connection connection, String sql, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+}
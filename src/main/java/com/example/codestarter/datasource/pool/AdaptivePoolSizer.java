@@ -0,0 +1,131 @@
+package com.example.codestarter.datasource.pool;
+
+import com.example.codestarter.concurrent.ConcurrencyLimitAspect;
+import com.example.codestarter.config.PoolProperties;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 连接池大小自适应调整
+ * <p>
+ * 每个评估周期根据平均获取等待和平均连接占用时长在 [min-size, max-size] 内调整 maximumPoolSize：
+ * <ul>
+ *     <li>等待超过 target-wait 或出现获取超时，且占用时长未超过 max-db-latency 时扩容一步；
+ *     占用时长超标说明瓶颈在数据库，扩容只会加重负载，此时保持不变</li>
+ *     <li>连续 shrink-after 个周期无明显等待且活跃连接峰值不足一半时缩容一步，多余的空闲连接由 Hikari 按 idle-timeout 回收</li>
+ * </ul>
+ * 主库连接池调整后同步 {@link ConcurrencyLimitAspect} 的并发上限（上限由连接池大小推导时）。
+ * 调整次数记录到 {@value #RESIZE_NAME}，当前大小见 hikaricp.connections.max。
+ */
+@Slf4j
+public class AdaptivePoolSizer {
+
+    public static final String RESIZE_NAME = "app.pool.resizes";
+
+    private final PoolTelemetry telemetry;
+
+    private final PoolProperties.Adaptive properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private ConcurrencyLimitAspect concurrencyLimit;
+
+    private ScheduledExecutorService scheduler;
+
+    public AdaptivePoolSizer(PoolTelemetry telemetry, PoolProperties.Adaptive properties, MeterRegistry meterRegistry) {
+        this.telemetry = telemetry;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 主库连接池大小调整时同步并发上限
+     *
+     * @param concurrencyLimit 并发限制切面
+     */
+    public void setConcurrencyLimit(ConcurrencyLimitAspect concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    public void start() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("pool-sizer-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long interval = properties.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::adjust, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 按本周期统计调整所有连接池
+     */
+    public void adjust() {
+        for (PoolState pool : telemetry.getPools()) {
+            try {
+                adjust(pool, pool.drainWindow());
+            } catch (RuntimeException e) {
+                log.warn("连接池 {} 大小调整失败: {}", pool.getName(), e.getMessage());
+            }
+        }
+    }
+
+    void adjust(PoolState pool, PoolState.Window window) {
+        HikariConfigMXBean config = pool.getDataSource().getHikariConfigMXBean();
+        int current = config.getMaximumPoolSize();
+        long targetWaitNanos = properties.getTargetWait().toNanos();
+        boolean waiting = window.avgWaitNanos() > targetWaitNanos || window.timeouts() > 0;
+        if (waiting) {
+            pool.quietIntervals = 0;
+            if (window.avgUsageMillis() > properties.getMaxDbLatency().toMillis()) {
+                log.info("连接池 {} 等待 {}ms，但连接平均占用 {}ms 超过 {}ms，暂不扩容", pool.getName(),
+                        TimeUnit.NANOSECONDS.toMillis(window.avgWaitNanos()), window.avgUsageMillis(),
+                        properties.getMaxDbLatency().toMillis());
+                return;
+            }
+            if (current < properties.getMaxSize()) {
+                resize(pool, config, Math.min(current + properties.getStep(), properties.getMaxSize()), window);
+            }
+            return;
+        }
+        if (window.peakActive() * 2 >= current) {
+            pool.quietIntervals = 0;
+            return;
+        }
+        if (++pool.quietIntervals >= properties.getShrinkAfter() && current > properties.getMinSize()) {
+            pool.quietIntervals = 0;
+            resize(pool, config, Math.max(current - properties.getStep(), properties.getMinSize()), window);
+        }
+    }
+
+    private void resize(PoolState pool, HikariConfigMXBean config, int size, PoolState.Window window) {
+        int current = config.getMaximumPoolSize();
+        if (config.getMinimumIdle() > size) {
+            config.setMinimumIdle(size);
+        }
+        config.setMaximumPoolSize(size);
+        if (pool.isPrimary() && concurrencyLimit != null) {
+            concurrencyLimit.resize(size);
+        }
+        String direction = size > current ? "up" : "down";
+        Counter.builder(RESIZE_NAME)
+                .description("连接池大小调整次数")
+                .tag("pool", pool.getName())
+                .tag("direction", direction)
+                .register(meterRegistry)
+                .increment();
+        log.info("连接池 {} 大小 {} -> {}，平均等待 {}ms，平均占用 {}ms，活跃峰值 {}", pool.getName(), current, size,
+                TimeUnit.NANOSECONDS.toMillis(window.avgWaitNanos()), window.avgUsageMillis(), window.peakActive());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.codestarter.datasource.pool;
+
+import com.example.codestarter.exception.BusinessException;
+import com.example.codestarter.service.BaseService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 连接池调用方切面
+ * <p>
+ * 在进入事务之前记录当前 BaseService 调用，作为连接池指标的 caller 标签；
+ * 调用方所用连接池已耗尽且近期获取等待超过预算时直接以 503 拒绝，不再排队等待 connection-timeout，
+ * 拒绝次数记录到 {@value #SHED_NAME}。同一线程内嵌套调用沿用最外层的调用方。
+ */
+@Slf4j
+@Aspect
+@Order(PoolCallerAspect.ORDER)
+public class PoolCallerAspect {
+
+    /**
+     * 切面顺序，位于并发限制切面之内、事务切面之外
+     */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 250;
+
+    public static final String SHED_NAME = "app.pool.shed";
+
+    private final PoolTelemetry telemetry;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Class<?>, Map<String, String>> callers = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> shedCounters = new ConcurrentHashMap<>();
+
+    public PoolCallerAspect(PoolTelemetry telemetry, MeterRegistry meterRegistry) {
+        this.telemetry = telemetry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.example.codestarter.service.BaseService.*(..))")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (PoolCallerContext.isActive()) {
+            return joinPoint.proceed();
+        }
+        String caller = caller(joinPoint);
+        if (telemetry.shouldShed(caller)) {
+            shedCounters.computeIfAbsent(caller, c -> Counter.builder(SHED_NAME)
+                    .description("连接池过载时拒绝的调用次数")
+                    .tag("caller", c)
+                    .register(meterRegistry)).increment();
+            log.debug("连接池等待超过预算，拒绝调用: {}", caller);
+            throw BusinessException.SERVICE_BUSY;
+        }
+        PoolCallerContext.set(caller);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PoolCallerContext.clear();
+        }
+    }
+
+    private String caller(ProceedingJoinPoint joinPoint) {
+        Class<?> type = AopUtils.getTargetClass(joinPoint.getTarget());
+        return callers.computeIfAbsent(type, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(joinPoint.getSignature().getName(), operation -> entityName(type) + "." + operation);
+    }
+
+    private static String entityName(Class<?> type) {
+        Class<?>[] arguments = GenericTypeResolver.resolveTypeArguments(type, BaseService.class);
+        return arguments == null || arguments[0] == null ? type.getSimpleName() : arguments[0].getSimpleName();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.codestarter.datasource.pool;
+
+/**
+ * 当前线程正在执行的 BaseService 调用，作为连接池指标的 caller 标签
+ */
+public final class PoolCallerContext {
+
+    /**
+     * 不在 BaseService 调用内获取连接时使用的标签
+     */
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> CALLER = new ThreadLocal<>();
+
+    private PoolCallerContext() {
+    }
+
+    /**
+     * @return 当前调用方，格式为 实体名.方法名，不在调用内时返回 {@link #NONE}
+     */
+    public static String current() {
+        String caller = CALLER.get();
+        return caller != null ? caller : NONE;
+    }
+
+    static boolean isActive() {
+        return CALLER.get() != null;
+    }
+
+    static void set(String caller) {
+        CALLER.set(caller);
+    }
+
+    static void clear() {
+        CALLER.remove();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.codestarter.datasource.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个连接池的运行状态
+ * 记录近期获取等待的指数移动平均用于限流判断，并按评估周期累计等待、占用和超时供自适应调整使用
+ */
+public class PoolState {
+
+    /**
+     * 指数移动平均的平滑系数
+     */
+    private static final double ALPHA = 0.2;
+
+    private final String name;
+
+    private final HikariDataSource dataSource;
+
+    private final PoolStats stats;
+
+    private final boolean primary;
+
+    private final LongAdder acquireNanos = new LongAdder();
+
+    private final LongAdder acquires = new LongAdder();
+
+    private final LongAdder usageMillis = new LongAdder();
+
+    private final LongAdder usages = new LongAdder();
+
+    private final LongAdder timeouts = new LongAdder();
+
+    private final AtomicInteger peakActive = new AtomicInteger();
+
+    private volatile double waitAverageNanos;
+
+    /**
+     * 连续空闲的评估周期数，仅由自适应调整线程读写
+     */
+    int quietIntervals;
+
+    PoolState(String name, HikariDataSource dataSource, PoolStats stats) {
+        this(name, dataSource, stats, true);
+    }
+
+    PoolState(String name, HikariDataSource dataSource, PoolStats stats, boolean primary) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.stats = stats;
+        this.primary = primary;
+    }
+
+    void recordAcquire(long nanos) {
+        acquireNanos.add(nanos);
+        acquires.increment();
+        updateWaitAverage(nanos);
+        peakActive.accumulateAndGet(stats.getActiveConnections(), Math::max);
+    }
+
+    void recordUsage(long millis) {
+        usageMillis.add(millis);
+        usages.increment();
+    }
+
+    void recordTimeout() {
+        timeouts.increment();
+        updateWaitAverage(dataSource.getConnectionTimeout() * 1_000_000L);
+    }
+
+    private void updateWaitAverage(long nanos) {
+        // 并发更新可能丢失个别样本，对平均值影响可以忽略
+        double average = waitAverageNanos;
+        waitAverageNanos = average + ALPHA * (nanos - average);
+    }
+
+    /**
+     * 连接池是否已耗尽且近期平均等待超过预算
+     *
+     * @param budgetNanos 等待预算
+     * @return 是否应拒绝新的请求
+     */
+    boolean isOverloaded(long budgetNanos) {
+        return stats.getPendingThreads() > 0 && stats.getIdleConnections() == 0 && waitAverageNanos > budgetNanos;
+    }
+
+    /**
+     * 取出并重置本评估周期的累计值
+     *
+     * @return 周期统计
+     */
+    Window drainWindow() {
+        long count = acquires.sumThenReset();
+        long waitSum = acquireNanos.sumThenReset();
+        long usageCount = usages.sumThenReset();
+        long usageSum = usageMillis.sumThenReset();
+        return new Window(count,
+                count == 0 ? 0 : waitSum / count,
+                usageCount == 0 ? 0 : usageSum / usageCount,
+                timeouts.sumThenReset(),
+                peakActive.getAndSet(stats.getActiveConnections()));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public HikariDataSource getDataSource() {
+        return dataSource;
+    }
+
+    public PoolStats getStats() {
+        return stats;
+    }
+
+    /**
+     * @return 是否为主库连接池，读写分离的从库连接池返回 false
+     */
+    public boolean isPrimary() {
+        return primary;
+    }
+
+    /**
+     * 评估周期统计
+     *
+     * @param acquires         获取次数
+     * @param avgWaitNanos     平均获取等待
+     * @param avgUsageMillis   平均连接占用时长
+     * @param timeouts         获取超时次数
+     * @param peakActive       活跃连接峰值
+     */
+    record Window(long acquires, long avgWaitNanos, long avgUsageMillis, long timeouts, int peakActive) {
+    }
+}
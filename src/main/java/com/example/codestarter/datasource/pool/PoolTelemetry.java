@@ -0,0 +1,335 @@
+package com.example.codestarter.datasource.pool;
+
+import com.example.codestarter.config.PoolProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 连接池观测
+ * <p>
+ * 通过 Hikari 的 MetricsTracker 回调（在获取、归还连接的业务线程上执行）按调用方记录：
+ * <ul>
+ *     <li>{@value #ACQUIRE_NAME}：获取连接的等待时间，标签 pool、caller</li>
+ *     <li>{@value #USAGE_NAME}：连接占用时长，标签 pool、caller</li>
+ *     <li>{@value #TIMEOUT_NAME}：获取连接超时次数，标签 pool、caller</li>
+ *     <li>{@value #LEAK_NAME}：疑似泄漏的连接数，标签 pool、caller</li>
+ * </ul>
+ * caller 为当前 BaseService 调用（实体名.方法名），见 {@link PoolCallerAspect}。
+ * 同时保留 Hikari 自带的 hikaricp.* 指标。
+ * <p>
+ * 连接占用超过 leak-threshold 时输出一次告警，包含调用方、事务名和线程。
+ * 事务管理器在开启事务时获取连接，此时事务名尚未设置，由 {@link PoolTransactionAspect} 在事务开启后调用
+ * {@link #bindTransaction()} 补充；连接在其他线程归还时，按同一连接池中最早借出的连接结算。
+ */
+@Slf4j
+public class PoolTelemetry {
+
+    public static final String ACQUIRE_NAME = "app.pool.acquire";
+
+    public static final String USAGE_NAME = "app.pool.usage";
+
+    public static final String TIMEOUT_NAME = "app.pool.timeouts";
+
+    public static final String LEAK_NAME = "app.pool.leaks";
+
+    private final MeterRegistry meterRegistry;
+
+    private final PoolProperties properties;
+
+    private final MicrometerMetricsTrackerFactory hikariMetrics;
+
+    private final List<PoolState> pools = new CopyOnWriteArrayList<>();
+
+    private final Map<String, PoolState> lastPoolByCaller = new ConcurrentHashMap<>();
+
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+
+    private final Map<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    private final Set<Lease> leases = ConcurrentHashMap.newKeySet();
+
+    private final ThreadLocal<Deque<Lease>> threadLeases = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final long leakThresholdNanos;
+
+    private final long acquireBudgetNanos;
+
+    private ScheduledExecutorService leakSweeper;
+
+    public PoolTelemetry(MeterRegistry meterRegistry, PoolProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.hikariMetrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+        this.leakThresholdNanos = properties.getLeakThreshold().toNanos();
+        this.acquireBudgetNanos = properties.getAcquireBudget().toNanos();
+    }
+
+    /**
+     * 为连接池注册指标，需在连接池启动前调用
+     *
+     * @param dataSource 连接池
+     */
+    public void register(HikariDataSource dataSource) {
+        register(dataSource, true);
+    }
+
+    /**
+     * 为读写分离的从库连接池注册指标，需在连接池启动前调用
+     *
+     * @param dataSource 从库连接池
+     */
+    public void registerReplica(HikariDataSource dataSource) {
+        register(dataSource, false);
+    }
+
+    private void register(HikariDataSource dataSource, boolean primary) {
+        dataSource.setMetricsTrackerFactory((poolName, stats) -> {
+            PoolState state = new PoolState(poolName, dataSource, stats, primary);
+            pools.add(state);
+            return new Tracker(state, hikariMetrics.create(poolName, stats));
+        });
+    }
+
+    /**
+     * 已启动的连接池
+     */
+    public Collection<PoolState> getPools() {
+        return pools;
+    }
+
+    /**
+     * 调用方上次使用的连接池已耗尽且近期等待超过预算时返回 true
+     *
+     * @param caller 调用方
+     * @return 是否应拒绝
+     */
+    public boolean shouldShed(String caller) {
+        if (acquireBudgetNanos <= 0) {
+            return false;
+        }
+        PoolState state = lastPoolByCaller.get(caller);
+        return state != null && state.isOverloaded(acquireBudgetNanos);
+    }
+
+    /**
+     * 将当前线程借出且尚未关联事务的连接关联到当前事务名，需在事务开启后调用
+     */
+    public void bindTransaction() {
+        if (leakThresholdNanos <= 0) {
+            return;
+        }
+        Deque<Lease> owned = threadLeases.get();
+        if (owned.isEmpty()) {
+            return;
+        }
+        String transaction = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (transaction == null) {
+            return;
+        }
+        for (Lease lease : owned) {
+            if (lease.transaction == null) {
+                lease.transaction = transaction;
+            }
+        }
+    }
+
+    public void start() {
+        if (leakThresholdNanos <= 0) {
+            return;
+        }
+        long interval = Math.max(Duration.ofSeconds(1).toNanos(), leakThresholdNanos / 2);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("pool-leak-");
+        threadFactory.setDaemon(true);
+        leakSweeper = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        leakSweeper.scheduleWithFixedDelay(this::detectLeaks, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (leakSweeper != null) {
+            leakSweeper.shutdownNow();
+        }
+    }
+
+    /**
+     * 检查占用超过阈值的连接，每个连接只告警一次
+     */
+    void detectLeaks() {
+        long now = System.nanoTime();
+        for (Lease lease : leases) {
+            long held = now - lease.startNanos;
+            if (held >= leakThresholdNanos && lease.reported.compareAndSet(false, true)) {
+                String transaction = lease.transaction;
+                counter(LEAK_NAME, "疑似泄漏的连接数", lease.pool, lease.caller).increment();
+                log.warn("连接池 {} 的连接已占用 {}ms，疑似泄漏，调用方: {}, 事务: {}, 线程: {}", lease.pool,
+                        TimeUnit.NANOSECONDS.toMillis(held), lease.caller,
+                        transaction != null ? transaction : lease.caller, lease.owner.getName());
+            }
+        }
+    }
+
+    /**
+     * 结算一次连接归还：优先取当前线程最近借出的同一连接池的连接，
+     * 当前线程没有借出时为跨线程归还，取同一连接池中最早借出的连接
+     */
+    private Lease release(String pool) {
+        Iterator<Lease> owned = threadLeases.get().iterator();
+        while (owned.hasNext()) {
+            Lease lease = owned.next();
+            if (!leases.contains(lease)) {
+                // 已由其他线程归还
+                owned.remove();
+            } else if (lease.pool.equals(pool) && leases.remove(lease)) {
+                owned.remove();
+                return lease;
+            }
+        }
+        Thread current = Thread.currentThread();
+        return leases.stream()
+                .filter(lease -> lease.pool.equals(pool) && lease.owner != current)
+                .sorted(Comparator.comparingLong(lease -> lease.startNanos))
+                .filter(leases::remove)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Timer timer(String name, String description, String pool, String caller) {
+        return timers.computeIfAbsent(new MeterKey(name, pool, caller), key -> Timer.builder(key.name())
+                .description(description)
+                .tag("pool", key.pool())
+                .tag("caller", key.caller())
+                .publishPercentileHistogram(properties.isPercentileHistogram())
+                .register(meterRegistry));
+    }
+
+    private Counter counter(String name, String description, String pool, String caller) {
+        return counters.computeIfAbsent(new MeterKey(name, pool, caller), key -> Counter.builder(key.name())
+                .description(description)
+                .tag("pool", key.pool())
+                .tag("caller", key.caller())
+                .register(meterRegistry));
+    }
+
+    /**
+     * 单个连接池的回调，包装 Hikari 自带的 Micrometer 指标
+     */
+    private final class Tracker implements IMetricsTracker {
+
+        private final PoolState state;
+
+        private final IMetricsTracker delegate;
+
+        private Tracker(PoolState state, IMetricsTracker delegate) {
+            this.state = state;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            String caller = PoolCallerContext.current();
+            timer(ACQUIRE_NAME, "获取连接的等待时间", state.getName(), caller)
+                    .record(elapsedAcquiredNanos, TimeUnit.NANOSECONDS);
+            state.recordAcquire(elapsedAcquiredNanos);
+            if (!PoolCallerContext.NONE.equals(caller)) {
+                lastPoolByCaller.put(caller, state);
+            }
+            if (leakThresholdNanos > 0) {
+                Lease lease = new Lease(state.getName(), caller, Thread.currentThread(), System.nanoTime());
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                    lease.transaction = TransactionSynchronizationManager.getCurrentTransactionName();
+                }
+                threadLeases.get().push(lease);
+                leases.add(lease);
+            }
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            String caller = PoolCallerContext.current();
+            if (leakThresholdNanos > 0) {
+                Lease lease = release(state.getName());
+                if (lease != null) {
+                    caller = lease.caller;
+                }
+            }
+            timer(USAGE_NAME, "连接占用时长", state.getName(), caller)
+                    .record(elapsedBorrowedMillis, TimeUnit.MILLISECONDS);
+            state.recordUsage(elapsedBorrowedMillis);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            delegate.recordConnectionTimeout();
+            counter(TIMEOUT_NAME, "获取连接超时次数", state.getName(), PoolCallerContext.current()).increment();
+            state.recordTimeout();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+            pools.remove(state);
+        }
+    }
+
+    /**
+     * 一次连接借出，按对象标识比较
+     */
+    private static final class Lease {
+
+        private final String pool;
+
+        private final String caller;
+
+        private final Thread owner;
+
+        private final long startNanos;
+
+        private final AtomicBoolean reported = new AtomicBoolean();
+
+        /**
+         * 事务名，事务开启后才能确定
+         */
+        private volatile String transaction;
+
+        private Lease(String pool, String caller, Thread owner, long startNanos) {
+            this.pool = pool;
+            this.caller = caller;
+            this.owner = owner;
+            this.startNanos = startNanos;
+        }
+    }
+
+    private record MeterKey(String name, String pool, String caller) {
+    }
+}
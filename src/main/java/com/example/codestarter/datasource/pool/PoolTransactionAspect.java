@@ -0,0 +1,32 @@
+package com.example.codestarter.datasource.pool;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * 连接池事务关联切面
+ * <p>
+ * 位于事务切面之内，在事务开启、事务名设置之后把当前线程借出的连接关联到事务名，供泄漏告警使用
+ */
+@Aspect
+@Order(PoolTransactionAspect.ORDER)
+public class PoolTransactionAspect {
+
+    /**
+     * 切面顺序，与事务切面同为最低优先级，Advisor Bean 排在 @Aspect 之前，事务切面位于外层
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    private final PoolTelemetry telemetry;
+
+    public PoolTransactionAspect(PoolTelemetry telemetry) {
+        this.telemetry = telemetry;
+    }
+
+    @Before("execution(* com.example.codestarter.service.BaseService.*(..))")
+    public void bindTransaction() {
+        telemetry.bindTransaction();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.codestarter.datasource.query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单条 SQL（按调用方区分）的执行统计
+ */
+public class QueryStat {
+
+    private final long id;
+
+    private final String caller;
+
+    private final String sql;
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    private final LongAdder rows = new LongAdder();
+
+    private final AtomicLong maxRows = new AtomicLong();
+
+    private final LongAdder parameters = new LongAdder();
+
+    private final AtomicInteger maxParameters = new AtomicInteger();
+
+    private final LongAdder slowCount = new LongAdder();
+
+    private volatile SlowSample lastSlow;
+
+    QueryStat(long id, String caller, String sql) {
+        this.id = id;
+        this.caller = caller;
+        this.sql = sql;
+    }
+
+    void record(long nanos, long rowCount, int parameterCount) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        if (rowCount > 0) {
+            rows.add(rowCount);
+            maxRows.accumulateAndGet(rowCount, Math::max);
+        }
+        parameters.add(parameterCount);
+        maxParameters.accumulateAndGet(parameterCount, Math::max);
+    }
+
+    void recordSlow(SlowSample sample) {
+        slowCount.increment();
+        lastSlow = sample;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    SlowSample getLastSlow() {
+        return lastSlow;
+    }
+
+    public Snapshot snapshot() {
+        long executions = count.sum();
+        long total = totalNanos.sum();
+        int dot = caller.lastIndexOf('.');
+        SlowSample slow = lastSlow;
+        return new Snapshot(id,
+                dot > 0 ? caller.substring(0, dot) : caller,
+                dot > 0 ? caller.substring(dot + 1) : null,
+                sql,
+                executions,
+                millis(total),
+                executions > 0 ? millis(total / executions) : 0,
+                millis(maxNanos.get()),
+                rows.sum(),
+                maxRows.get(),
+                executions > 0 ? (double) parameters.sum() / executions : 0,
+                maxParameters.get(),
+                slowCount.sum(),
+                slow != null ? slow.summary() : null);
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    /**
+     * 最近一次慢查询，sql 为实际执行的语句（未合并 IN 列表）
+     */
+    record SlowSample(String sql, List<Object> parameters, int parameterCount, long nanos, long rows,
+                      LocalDateTime time) {
+
+        SlowSummary summary() {
+            return new SlowSummary(time, millis(nanos), rows, parameterCount);
+        }
+    }
+
+    /**
+     * 统计快照
+     *
+     * @param id            统计编号，用于查询执行计划
+     * @param entity        调用方实体名，不在 BaseService 调用内执行时为 none
+     * @param operation     调用方 BaseService 方法名
+     * @param sql           SQL，IN 列表合并为 (?...)
+     * @param count         执行次数
+     * @param totalMs       总耗时
+     * @param avgMs         平均耗时
+     * @param maxMs         最大耗时
+     * @param rows          返回或影响的总行数
+     * @param maxRows       单次最多行数
+     * @param avgParameters 平均绑定参数个数（IN 列表按元素计）
+     * @param maxParameters 单次最多绑定参数个数
+     * @param slowCount     慢查询次数
+     * @param lastSlow      最近一次慢查询
+     */
+    public record Snapshot(long id, String entity, String operation, String sql, long count, double totalMs,
+                           double avgMs, double maxMs, long rows, long maxRows, double avgParameters,
+                           int maxParameters, long slowCount, SlowSummary lastSlow) {
+    }
+
+    public record SlowSummary(LocalDateTime time, double ms, long rows, int parameters) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.codestarter.datasource.query;
+
+import com.example.codestarter.config.QueryStatsProperties;
+import com.example.codestarter.datasource.pool.PoolCallerContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 执行统计
+ * <p>
+ * 由 {@link QueryStatsDataSource} 在每次执行后调用，按 调用方 + SQL 汇总耗时、行数和绑定参数个数。
+ * 调用方为当前 BaseService 调用（实体名.方法名，见 {@link PoolCallerContext}），
+ * 因此 BaseRepository 中同一条 {@code #{#entityName}} 模板查询按实体分别统计。
+ * IN 列表展开后的 {@code in (?,?,...)} 合并为 {@code in (?...)}，不同列表长度计入同一条统计，列表长度体现在参数个数上。
+ */
+@Slf4j
+public class QueryStats {
+
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private final Map<Key, QueryStat> stats = new ConcurrentHashMap<>();
+
+    /**
+     * 实际执行的 SQL 到统计的索引，避免每次执行都做 IN 列表合并
+     */
+    private final Map<Key, QueryStat> index = new ConcurrentHashMap<>();
+
+    private final AtomicLong ids = new AtomicLong();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final long slowThresholdNanos;
+
+    private final int maxQueries;
+
+    private final boolean captureParameters;
+
+    private final boolean logSlow;
+
+    public QueryStats(QueryStatsProperties properties) {
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+        this.maxQueries = properties.getMaxQueries();
+        this.captureParameters = properties.isCaptureParameters();
+        this.logSlow = properties.isLogSlow();
+    }
+
+    boolean isCaptureParameters() {
+        return captureParameters;
+    }
+
+    /**
+     * 记录一次执行
+     *
+     * @param sql            实际执行的 SQL
+     * @param nanos          执行耗时
+     * @param rows           返回或影响的行数
+     * @param parameterCount 绑定参数个数
+     * @param parameters     绑定参数，未记录时为 null
+     */
+    void record(String sql, long nanos, long rows, int parameterCount, Object[] parameters) {
+        String caller = PoolCallerContext.current();
+        QueryStat stat = stat(caller, sql);
+        if (stat == null) {
+            dropped.increment();
+            return;
+        }
+        stat.record(nanos, rows, parameterCount);
+        if (slowThresholdNanos > 0 && nanos >= slowThresholdNanos) {
+            List<Object> values = !captureParameters ? null
+                    : parameters == null ? List.of()
+                    : Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(parameters, parameterCount)));
+            stat.recordSlow(new QueryStat.SlowSample(sql, values, parameterCount, nanos, rows, LocalDateTime.now()));
+            if (logSlow) {
+                log.warn("慢查询 #{}，调用方: {}, 耗时: {}ms, 行数: {}, 参数个数: {}, SQL: {}",
+                        stat.getId(), caller, nanos / 1_000_000, rows, parameterCount, stat.getSql());
+            }
+        }
+    }
+
+    private QueryStat stat(String caller, String sql) {
+        Key raw = new Key(caller, sql);
+        QueryStat stat = index.get(raw);
+        if (stat != null) {
+            return stat;
+        }
+        Key key = new Key(caller, normalize(sql));
+        stat = stats.get(key);
+        if (stat == null) {
+            if (stats.size() >= maxQueries) {
+                return null;
+            }
+            stat = stats.computeIfAbsent(key, k -> new QueryStat(ids.incrementAndGet(), k.caller(), k.sql()));
+        }
+        if (index.size() < maxQueries * 4) {
+            index.put(raw, stat);
+        }
+        return stat;
+    }
+
+    static String normalize(String sql) {
+        return IN_LIST.matcher(sql).replaceAll("in (?...)");
+    }
+
+    /**
+     * 按指定方式排序的前 limit 条统计
+     *
+     * @param order 排序方式
+     * @param limit 条数
+     * @return 统计快照
+     */
+    public List<QueryStat.Snapshot> top(Order order, int limit) {
+        return stats.values().stream()
+                .map(QueryStat::snapshot)
+                .sorted(order.comparator.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public Optional<QueryStat> find(long id) {
+        return stats.values().stream().filter(stat -> stat.getId() == id).findFirst();
+    }
+
+    public int size() {
+        return stats.size();
+    }
+
+    /**
+     * 因超出 max-queries 未统计的执行次数
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public void reset() {
+        index.clear();
+        stats.clear();
+        dropped.reset();
+    }
+
+    /**
+     * 排序方式
+     */
+    public enum Order {
+
+        MAX(Comparator.comparingDouble(QueryStat.Snapshot::maxMs)),
+        AVG(Comparator.comparingDouble(QueryStat.Snapshot::avgMs)),
+        TOTAL(Comparator.comparingDouble(QueryStat.Snapshot::totalMs)),
+        COUNT(Comparator.comparingLong(QueryStat.Snapshot::count)),
+        ROWS(Comparator.comparingLong(QueryStat.Snapshot::rows)),
+        PARAMETERS(Comparator.comparingInt(QueryStat.Snapshot::maxParameters)),
+        SLOW(Comparator.comparingLong(QueryStat.Snapshot::slowCount));
+
+        private final Comparator<QueryStat.Snapshot> comparator;
+
+        Order(Comparator<QueryStat.Snapshot> comparator) {
+            this.comparator = comparator;
+        }
+    }
+
+    private record Key(String caller, String sql) {
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.codestarter.datasource.query;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * 统计 SQL 执行的数据源
+ * <p>
+ * 代理 Connection、Statement 与 ResultSet：记录 execute* 的耗时、绑定参数个数，
+ * 查询的行数在 ResultSet 关闭时（或 Statement 关闭时）计入，更新与批量执行的行数取影响行数。
+ * 耗时只包含语句执行本身，不包含结果集遍历期间的业务处理。
+ */
+public class QueryStatsDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final ClassLoader CLASS_LOADER = QueryStatsDataSource.class.getClassLoader();
+
+    private final QueryStats stats;
+
+    public QueryStatsDataSource(DataSource targetDataSource, QueryStats stats) {
+        super(targetDataSource);
+        this.stats = stats;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    /**
+     * 随 Bean 销毁关闭被包装的连接池
+     */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryStatsDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> wrap(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "prepareCall" -> wrap(CallableStatement.class, (Statement) result, (String) args[0]);
+                case "createStatement" -> wrap(Statement.class, (Statement) result, null);
+                default -> result;
+            };
+        }
+
+        private Object wrap(Class<?> type, Statement statement, String sql) {
+            return Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{type}, new StatementHandler(statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+
+        private final String sql;
+
+        private Object[] parameters;
+
+        private int parameterCount;
+
+        /**
+         * 尚未计入的查询：SQL、执行耗时与已读取行数
+         */
+        private String pendingSql;
+
+        private long pendingNanos;
+
+        private long pendingRows;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+                return QueryStatsDataSource.invoke(target, method, args);
+            }
+            switch (name) {
+                case "executeQuery" -> {
+                    flush();
+                    long start = System.nanoTime();
+                    ResultSet resultSet = (ResultSet) QueryStatsDataSource.invoke(target, method, args);
+                    return pending(sql(args), System.nanoTime() - start, resultSet);
+                }
+                case "executeUpdate", "executeLargeUpdate" -> {
+                    flush();
+                    long start = System.nanoTime();
+                    Object result = QueryStatsDataSource.invoke(target, method, args);
+                    record(sql(args), System.nanoTime() - start, ((Number) result).longValue());
+                    return result;
+                }
+                case "execute" -> {
+                    flush();
+                    long start = System.nanoTime();
+                    boolean hasResultSet = (Boolean) QueryStatsDataSource.invoke(target, method, args);
+                    long nanos = System.nanoTime() - start;
+                    if (hasResultSet) {
+                        pendingSql = sql(args);
+                        pendingNanos = nanos;
+                        pendingRows = 0;
+                    } else {
+                        record(sql(args), nanos, Math.max(0, target.getUpdateCount()));
+                    }
+                    return hasResultSet;
+                }
+                case "getResultSet" -> {
+                    ResultSet resultSet = (ResultSet) QueryStatsDataSource.invoke(target, method, args);
+                    return resultSet != null && pendingSql != null ? wrap(resultSet) : resultSet;
+                }
+                case "executeBatch", "executeLargeBatch" -> {
+                    flush();
+                    long start = System.nanoTime();
+                    Object result = QueryStatsDataSource.invoke(target, method, args);
+                    record(sql, System.nanoTime() - start, affectedRows(result));
+                    return result;
+                }
+                case "clearParameters" -> parameterCount = 0;
+                case "close" -> flush();
+                default -> {
+                }
+            }
+            return QueryStatsDataSource.invoke(target, method, args);
+        }
+
+        private String sql(Object[] args) {
+            return args != null && args.length > 0 && args[0] instanceof String statementSql ? statementSql : sql;
+        }
+
+        private void bind(int index, Object value) {
+            parameterCount = Math.max(parameterCount, index);
+            if (!stats.isCaptureParameters()) {
+                return;
+            }
+            if (parameters == null) {
+                parameters = new Object[Math.max(8, index)];
+            } else if (parameters.length < index) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value;
+        }
+
+        private ResultSet pending(String executedSql, long nanos, ResultSet resultSet) {
+            pendingSql = executedSql;
+            pendingNanos = nanos;
+            pendingRows = 0;
+            return wrap(resultSet);
+        }
+
+        private ResultSet wrap(ResultSet resultSet) {
+            return (ResultSet) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{ResultSet.class},
+                    (proxy, method, args) -> {
+                        Object result = QueryStatsDataSource.invoke(resultSet, method, args);
+                        switch (method.getName()) {
+                            case "next" -> {
+                                if ((Boolean) result) {
+                                    pendingRows++;
+                                }
+                            }
+                            case "close" -> flush();
+                            default -> {
+                            }
+                        }
+                        return result;
+                    });
+        }
+
+        private void flush() {
+            if (pendingSql != null) {
+                String executedSql = pendingSql;
+                pendingSql = null;
+                record(executedSql, pendingNanos, pendingRows);
+            }
+        }
+
+        private void record(String executedSql, long nanos, long rows) {
+            if (executedSql != null) {
+                stats.record(executedSql, nanos, rows, parameterCount, parameters);
+            }
+        }
+
+        private long affectedRows(Object result) {
+            long rows = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    rows += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, count);
+                }
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    rows += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, count);
+                }
+            }
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.codestarter.datasource.query;
+
+import com.example.codestarter.config.QueryStatsProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * SQL 执行统计端点 /actuator/queries
+ * <ul>
+ *     <li>GET /actuator/queries?limit=&amp;order=：按 max（默认）、avg、total、count、rows、parameters、slow 排序的前 N 条</li>
+ *     <li>GET /actuator/queries/{id}：单条统计，开启 explain-enabled 且有慢查询记录时附带对该次执行的 EXPLAIN 结果</li>
+ *     <li>DELETE /actuator/queries：清空统计，需开启 reset-enabled</li>
+ * </ul>
+ * EXPLAIN 只在请求单条统计时执行，不带 ANALYZE，不会实际执行原语句；带参数的语句需开启 capture-parameters。
+ * 该端点默认不在 management.endpoints.web.exposure.include 中，通过 HTTP 暴露时需配合访问控制。
+ */
+@Slf4j
+@Endpoint(id = "queries")
+public class QueryStatsEndpoint {
+
+    private final QueryStats stats;
+
+    private final DataSource dataSource;
+
+    private final int defaultLimit;
+
+    private final boolean explainEnabled;
+
+    private final boolean resetEnabled;
+
+    /**
+     * @param stats      SQL 执行统计
+     * @param dataSource 执行 EXPLAIN 的数据源，不经过统计
+     * @param properties 统计配置
+     */
+    public QueryStatsEndpoint(QueryStats stats, DataSource dataSource, QueryStatsProperties properties) {
+        this.stats = stats;
+        this.dataSource = dataSource;
+        this.defaultLimit = properties.getTopN();
+        this.explainEnabled = properties.isExplainEnabled();
+        this.resetEnabled = properties.isResetEnabled();
+    }
+
+    @ReadOperation
+    public QueriesReport queries(@Nullable Integer limit, @Nullable String order) {
+        if (limit != null && limit <= 0) {
+            throw new InvalidEndpointRequestException("limit 必须大于 0: " + limit, "limit 必须大于 0");
+        }
+        QueryStats.Order sort = order != null ? order(order) : QueryStats.Order.MAX;
+        return new QueriesReport(stats.size(), stats.getDropped(), sort.name().toLowerCase(Locale.ROOT),
+                stats.top(sort, limit != null ? limit : defaultLimit));
+    }
+
+    @ReadOperation
+    public QueryDetail query(@Selector long id) {
+        QueryStat stat = stats.find(id).orElse(null);
+        if (stat == null) {
+            return null;
+        }
+        QueryStat.SlowSample slow = stat.getLastSlow();
+        if (slow == null) {
+            return new QueryDetail(stat.snapshot(), null, null, null);
+        }
+        if (!explainEnabled) {
+            return new QueryDetail(stat.snapshot(), slow.sql(), null, "未开启 app.query-stats.explain-enabled");
+        }
+        if (slow.parameters() == null && slow.parameterCount() > 0) {
+            return new QueryDetail(stat.snapshot(), slow.sql(), null,
+                    "未记录绑定参数，需开启 app.query-stats.capture-parameters");
+        }
+        try {
+            return new QueryDetail(stat.snapshot(), slow.sql(), explain(slow), null);
+        } catch (SQLException e) {
+            log.warn("执行计划获取失败，统计编号: {}", id, e);
+            return new QueryDetail(stat.snapshot(), slow.sql(), null, e.getMessage());
+        }
+    }
+
+    @DeleteOperation
+    public void reset() {
+        if (!resetEnabled) {
+            throw new InvalidEndpointRequestException("清空统计未开启", "未开启 app.query-stats.reset-enabled");
+        }
+        stats.reset();
+    }
+
+    private static QueryStats.Order order(String order) {
+        try {
+            return QueryStats.Order.valueOf(order.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            String valid = Arrays.stream(QueryStats.Order.values())
+                    .map(value -> value.name().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.joining(", "));
+            throw new InvalidEndpointRequestException("不支持的排序方式: " + order,
+                    "order 可选值: " + valid);
+        }
+    }
+
+    private List<Map<String, Object>> explain(QueryStat.SlowSample slow) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + slow.sql())) {
+            List<Object> parameters = slow.parameters() != null ? slow.parameters() : List.of();
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            List<Map<String, Object>> plan = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                while (resultSet.next()) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                        row.put(metaData.getColumnLabel(column), resultSet.getObject(column));
+                    }
+                    plan.add(row);
+                }
+            }
+            return plan;
+        }
+    }
+
+    /**
+     * @param tracked 已统计的 SQL 数量
+     * @param dropped 因超出 max-queries 未统计的执行次数
+     * @param order   排序方式
+     * @param queries 统计快照
+     */
+    public record QueriesReport(int tracked, long dropped, String order, List<QueryStat.Snapshot> queries) {
+    }
+
+    /**
+     * @param query      统计快照
+     * @param explainSql 执行 EXPLAIN 的语句（最近一次慢查询）
+     * @param plan       执行计划，没有慢查询记录时为 null
+     * @param planError  未获取执行计划的原因（未开启或执行失败）
+     */
+    public record QueryDetail(QueryStat.Snapshot query, String explainSql, List<Map<String, Object>> plan,
+                              String planError) {
+    }
+}
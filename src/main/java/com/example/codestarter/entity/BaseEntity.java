@@ -8,6 +8,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * 基础实体类
@@ -18,6 +19,11 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
+    /**
+     * 时间字段精度，与数据库 DATETIME(6) 保持一致，避免游标分页时内存值与库中值不一致
+     */
+    public static final ChronoUnit TIME_PRECISION = ChronoUnit.MICROS;
+
     /**
      * 主键ID，自增
      */
@@ -65,13 +71,30 @@ public abstract class BaseEntity {
     @Column(name = "version", nullable = false)
     private Integer version = 1;
 
+    /**
+     * 获取与数据库精度一致的当前时间
+     *
+     * @return 当前时间
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(TIME_PRECISION);
+    }
+
     @PrePersist
     protected void onCreate() {
+        fillDefaults();
+    }
+
+    /**
+     * 填充新增时的默认值
+     * 供绕过 JPA 生命周期回调的批量写入路径调用
+     */
+    public void fillDefaults() {
         if (createTime == null) {
-            createTime = LocalDateTime.now();
+            createTime = now();
         }
         if (updateTime == null) {
-            updateTime = LocalDateTime.now();
+            updateTime = now();
         }
         if (deleted == null) {
             deleted = 0;
@@ -83,6 +106,6 @@ public abstract class BaseEntity {
 
     @PreUpdate
     protected void onUpdate() {
-        updateTime = LocalDateTime.now();
+        updateTime = now();
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.codestarter.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 实体版本投影，只包含版本号和更新时间，用于条件请求校验
+ *
+ * @param version    版本号
+ * @param updateTime 更新时间
+ */
+public record EntityVersion(Integer version, LocalDateTime updateTime) {
+
+    public static EntityVersion of(BaseEntity entity) {
+        return new EntityVersion(entity.getVersion(), entity.getUpdateTime());
+    }
+}
@@ -1,27 +1,41 @@
 package com.example.codestarter.exception;
 
-import lombok.Data;
-import lombok.EqualsAndHashCode;
+import lombok.Getter;
 
 /**
  * 业务异常类
+ * <p>
+ * 业务异常属于正常流程，不采集堆栈、不记录抑制异常，创建开销与普通对象相当；
+ * 实例不可变，固定的错误可直接抛出预分配的常量。
  */
-@Data
-@EqualsAndHashCode(callSuper = true)
+@Getter
 public class BusinessException extends RuntimeException {
-    
-    private Integer code;
-    private String message;
-    
+
+    /**
+     * 数据不存在
+     */
+    public static final BusinessException NOT_FOUND = new BusinessException(404, "数据不存在");
+
+    /**
+     * 系统繁忙，用于限流和执行器饱和
+     */
+    public static final BusinessException SERVICE_BUSY = new BusinessException(503, "系统繁忙，请稍后重试");
+
+    private final Integer code;
+
     public BusinessException(String message) {
-        super(message);
-        this.code = 500;
-        this.message = message;
+        this(500, message);
     }
-    
+
     public BusinessException(Integer code, String message) {
-        super(message);
+        this(code, message, null);
+    }
+
+    /**
+     * @param cause 原始异常，保留其堆栈用于排查
+     */
+    public BusinessException(Integer code, String message, Throwable cause) {
+        super(message, cause, false, false);
         this.code = code;
-        this.message = message;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.example.codestarter.exception;
+
+/**
+ * 错误响应数据，作为 {@code Result.data} 返回
+ *
+ * @param code    业务错误码，仅业务异常返回
+ * @param message 错误信息
+ * @param error   异常类名，仅非业务异常返回
+ */
+public record ErrorBody(Integer code, String message, String error) {
+
+    public static ErrorBody of(BusinessException e) {
+        return new ErrorBody(e.getCode(), e.getMessage(), null);
+    }
+
+    public static ErrorBody of(Throwable e) {
+        return new ErrorBody(null, e.getMessage(), e.getClass().getName());
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.codestarter.exception;
+
+import com.example.codestarter.config.ExceptionLogProperties;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.boot.logging.LogLevel;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按异常类控制级别和频率的异常日志
+ * <p>
+ * 日志级别按异常类及其父类在 {@link ExceptionLogProperties#getLevels()} 中查找；
+ * 每个异常类每秒最多输出 maxPerSecond 条，超出的条数在下一条输出的日志中汇总。
+ * 业务异常只输出错误码和信息，其他异常附带堆栈。
+ */
+public class ExceptionLogger {
+
+    private final Logger log;
+
+    private final ExceptionLogProperties properties;
+
+    private final Map<Class<?>, LogState> states = new ConcurrentHashMap<>();
+
+    public ExceptionLogger(Logger log, ExceptionLogProperties properties) {
+        this.log = log;
+        this.properties = properties;
+    }
+
+    /**
+     * 记录异常
+     *
+     * @param description 异常描述，如“业务异常”
+     * @param e           异常
+     */
+    public void log(String description, Throwable e) {
+        LogState state = states.computeIfAbsent(e.getClass(), this::createState);
+        if (state.level == null || !log.isEnabledForLevel(state.level)) {
+            return;
+        }
+        long suppressed = state.tryAcquire(properties.getMaxPerSecond(),
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime()));
+        if (suppressed < 0) {
+            return;
+        }
+        String summary = suppressed > 0 ? "（此前抑制同类日志 " + suppressed + " 条）" : "";
+        LoggingEventBuilder event = log.atLevel(state.level);
+        if (e instanceof BusinessException business) {
+            event.setCause(business.getCause()).log("{}: code={}, message={}{}",
+                    description, business.getCode(), business.getMessage(), summary);
+        } else {
+            event.setCause(e).log("{}: {}{}", description, e.getMessage(), summary);
+        }
+    }
+
+    private LogState createState(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            LogLevel level = properties.getLevels().get(current.getName());
+            if (level != null) {
+                return new LogState(toSlf4j(level));
+            }
+        }
+        return new LogState(toSlf4j(properties.getDefaultLevel()));
+    }
+
+    /**
+     * @return 对应的 slf4j 级别，OFF 返回 null
+     */
+    private static Level toSlf4j(LogLevel level) {
+        return switch (level) {
+            case TRACE -> Level.TRACE;
+            case DEBUG -> Level.DEBUG;
+            case INFO -> Level.INFO;
+            case WARN -> Level.WARN;
+            case ERROR, FATAL -> Level.ERROR;
+            case OFF -> null;
+        };
+    }
+
+    /**
+     * 单个异常类的日志级别与按秒计数
+     */
+    private static final class LogState {
+
+        /**
+         * 为 null 时不输出
+         */
+        private final Level level;
+
+        private long second = Long.MIN_VALUE;
+
+        private int count;
+
+        private long suppressed;
+
+        private LogState(Level level) {
+            this.level = level;
+        }
+
+        /**
+         * @return 允许输出时返回此前被抑制的条数，否则返回 -1
+         */
+        private synchronized long tryAcquire(int maxPerSecond, long now) {
+            if (maxPerSecond <= 0) {
+                return 0;
+            }
+            if (now != second) {
+                second = now;
+                count = 0;
+            }
+            if (count >= maxPerSecond) {
+                suppressed++;
+                return -1;
+            }
+            count++;
+            long result = suppressed;
+            suppressed = 0;
+            return result;
+        }
+    }
+}
@@ -1,59 +1,97 @@
 package com.example.codestarter.exception;
 
 import com.example.codestarter.common.Result;
+import com.example.codestarter.config.ExceptionLogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 全局异常处理器
+ * <p>
+ * 日志按异常类限级限频（见 {@link ExceptionLogger}），每次处理按错误码和异常类计数到 {@value #METRIC_NAME}
  */
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    public static final String METRIC_NAME = "app.exceptions";
+
+    private final MeterRegistry meterRegistry;
+
+    private final ExceptionLogger exceptionLogger;
+
+    private final Map<Class<?>, Map<Integer, Counter>> counters = new ConcurrentHashMap<>();
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry, ExceptionLogProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.exceptionLogger = new ExceptionLogger(log, properties);
+    }
+
     /**
      * 处理业务异常
      */
     @ExceptionHandler(BusinessException.class)
-    public Result<Map<String, Object>> handleBusinessException(BusinessException e) {
-        log.error("业务异常: ", e);
-        
-        Map<String, Object> data = new HashMap<>();
-        data.put("code", e.getCode());
-        data.put("message", e.getMessage());
-        
-        return new Result<>(e.getCode(), e.getMessage(), data);
+    public Result<ErrorBody> handleBusinessException(BusinessException e) {
+        record(e.getCode(), e);
+        exceptionLogger.log("业务异常", e);
+        return new Result<>(e.getCode(), e.getMessage(), ErrorBody.of(e));
+    }
+
+    /**
+     * 处理乐观锁冲突，返回错误码 409 提示客户端刷新数据后再提交
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public Result<ErrorBody> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        record(409, e);
+        exceptionLogger.log("乐观锁冲突", e);
+        return new Result<>(409, "数据已被其他请求修改，请刷新后重试", ErrorBody.of(e));
+    }
+
+    /**
+     * 处理无法开启事务（通常是获取连接超时），与连接池限流一致返回错误码 503 提示客户端稍后重试
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public Result<ErrorBody> handleCannotCreateTransaction(CannotCreateTransactionException e) {
+        record(503, e);
+        exceptionLogger.log("无法获取数据库连接", e);
+        return new Result<>(503, BusinessException.SERVICE_BUSY.getMessage(), ErrorBody.of(e));
     }
 
     /**
      * 处理所有未捕获的异常
      */
     @ExceptionHandler(Exception.class)
-    public Result<Map<String, String>> handleException(Exception e) {
-        log.error("系统异常: ", e);
-        
-        Map<String, String> data = new HashMap<>();
-        data.put("error", e.getClass().getName());
-        data.put("message", e.getMessage());
-        
-        return new Result<>(500, "系统异常: " + e.getMessage(), data);
+    public Result<ErrorBody> handleException(Exception e) {
+        record(500, e);
+        exceptionLogger.log("系统异常", e);
+        return new Result<>(500, "系统异常: " + e.getMessage(), ErrorBody.of(e));
     }
     
     /**
      * 处理 IllegalArgumentException 异常
      */
     @ExceptionHandler(IllegalArgumentException.class)
-    public Result<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException e) {
-        log.error("参数异常: ", e);
-        
-        Map<String, String> data = new HashMap<>();
-        data.put("error", e.getClass().getName());
-        data.put("message", e.getMessage());
-        
-        return new Result<>(400, "参数异常: " + e.getMessage(), data);
+    public Result<ErrorBody> handleIllegalArgumentException(IllegalArgumentException e) {
+        record(400, e);
+        exceptionLogger.log("参数异常", e);
+        return new Result<>(400, "参数异常: " + e.getMessage(), ErrorBody.of(e));
+    }
+
+    private void record(Integer code, Throwable e) {
+        counters.computeIfAbsent(e.getClass(), type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(code, c -> Counter.builder(METRIC_NAME)
+                        .description("异常处理次数")
+                        .tag("code", String.valueOf(c))
+                        .tag("exception", e.getClass().getSimpleName())
+                        .register(meterRegistry))
+                .increment();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package com.example.codestarter.metrics;
+
+import com.example.codestarter.config.ServiceMetricsProperties;
+import com.example.codestarter.service.BaseService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BaseService 方法指标切面
+ * <p>
+ * 对所有 BaseService 接口方法记录：
+ * <ul>
+ *     <li>{@value #TIMER_NAME}：耗时与调用次数，标签 entity、operation、outcome、exception</li>
+ *     <li>{@value #BATCH_SIZE_NAME}：批量方法（参数为集合）的批次大小，标签 entity、operation</li>
+ * </ul>
+ * 切面位于事务切面之外，耗时包含事务提交。通过 app.metrics.service.enabled=false 关闭，关闭后不会创建该切面。
+ */
+@Aspect
+@Component
+@Order(ServiceMetricsAspect.ORDER)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.metrics.service", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ServiceMetricsAspect {
+
+    /**
+     * 切面顺序，先于事务切面执行
+     */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    public static final String TIMER_NAME = "app.service.calls";
+
+    public static final String BATCH_SIZE_NAME = "app.service.batch.size";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    private final ServiceMetricsProperties properties;
+
+    private final Map<Class<?>, String> entityNames = new ConcurrentHashMap<>();
+
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+
+    private final Map<MeterKey, DistributionSummary> batchSizes = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.example.codestarter.service.BaseService.*(..))")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        String entity = entityName(joinPoint.getTarget());
+        String operation = joinPoint.getSignature().getName();
+        Object[] args = joinPoint.getArgs();
+        if (args.length > 0 && args[0] instanceof Collection<?> collection) {
+            batchSize(entity, operation).record(collection.size());
+        }
+        long start = System.nanoTime();
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            timer(entity, operation, exception).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String entity, String operation, String exception) {
+        return timers.computeIfAbsent(new MeterKey(entity, operation, exception), key -> Timer.builder(TIMER_NAME)
+                .description("BaseService 方法耗时")
+                .tag("entity", key.entity())
+                .tag("operation", key.operation())
+                .tag("outcome", NONE.equals(key.exception()) ? "success" : "error")
+                .tag("exception", key.exception())
+                .publishPercentileHistogram(properties.isPercentileHistogram())
+                .register(meterRegistry));
+    }
+
+    private DistributionSummary batchSize(String entity, String operation) {
+        return batchSizes.computeIfAbsent(new MeterKey(entity, operation, NONE), key -> DistributionSummary
+                .builder(BATCH_SIZE_NAME)
+                .description("BaseService 批量方法的批次大小")
+                .baseUnit("rows")
+                .tag("entity", key.entity())
+                .tag("operation", key.operation())
+                .publishPercentileHistogram(properties.isPercentileHistogram())
+                .register(meterRegistry));
+    }
+
+    private String entityName(Object target) {
+        return entityNames.computeIfAbsent(AopUtils.getTargetClass(target), type -> {
+            Class<?>[] arguments = GenericTypeResolver.resolveTypeArguments(type, BaseService.class);
+            return arguments == null || arguments[0] == null ? type.getSimpleName() : arguments[0].getSimpleName();
+        });
+    }
+
+    private record MeterKey(String entity, String operation, String exception) {
+    }
+}
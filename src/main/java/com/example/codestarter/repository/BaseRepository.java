@@ -1,14 +1,19 @@
 package com.example.codestarter.repository;
 
+import com.example.codestarter.common.KeysetCursor;
 import com.example.codestarter.entity.BaseEntity;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +44,120 @@ public interface BaseRepository<T extends BaseEntity, ID> extends JpaRepository<
     @Query("SELECT e FROM #{#entityName} e WHERE e.deleted = 0")
     Page<T> findAllByDeletedFalse(Pageable pageable);
 
+    /**
+     * 查询未删除的记录（分页，不执行 COUNT 查询）
+     * 
+     * @param pageable 分页参数
+     * @return 分片结果
+     */
+    @Query("SELECT e FROM #{#entityName} e WHERE e.deleted = 0")
+    Slice<T> findSliceByDeletedFalse(Pageable pageable);
+
+    /**
+     * 按删除标志查询并投影（分页）
+     * 派生查询，接口投影只查询接口声明的列，DTO / record 投影以构造函数表达式查询，均不创建受管实体
+     * 
+     * @param deleted  删除标志
+     * @param pageable 分页参数
+     * @param type     投影类型
+     * @param <P>      投影类型
+     * @return 分页结果
+     */
+    <P> Page<P> findByDeleted(Integer deleted, Pageable pageable, Class<P> type);
+
+    /**
+     * 按删除标志查询并投影（分页，不执行 COUNT 查询）
+     * 
+     * @param deleted  删除标志
+     * @param pageable 分页参数
+     * @param type     投影类型
+     * @param <P>      投影类型
+     * @return 分片结果
+     */
+    <P> Slice<P> findSliceByDeleted(Integer deleted, Pageable pageable, Class<P> type);
+
+    /**
+     * 按删除标志查询并投影，按 (createTime, id) 倒序
+     * 
+     * @param deleted 删除标志
+     * @param type    投影类型
+     * @param <P>     投影类型
+     * @return 投影列表
+     */
+    <P> List<P> findByDeletedOrderByCreateTimeDescIdDesc(Integer deleted, Class<P> type);
+
+    /**
+     * 根据 ID 和删除标志查询并投影
+     * 
+     * @param id      主键ID
+     * @param deleted 删除标志
+     * @param type    投影类型
+     * @param <P>     投影类型
+     * @return 投影结果
+     */
+    <P> Optional<P> findByIdAndDeleted(ID id, Integer deleted, Class<P> type);
+
+    /**
+     * 查询未删除的记录并投影（分页）
+     * 
+     * @param pageable 分页参数
+     * @param type     投影类型
+     * @param <P>      投影类型
+     * @return 分页结果
+     */
+    default <P> Page<P> findAllByDeletedFalse(Pageable pageable, Class<P> type) {
+        return findByDeleted(0, pageable, type);
+    }
+
+    /**
+     * 查询未删除的记录并投影（分页，不执行 COUNT 查询）
+     * 
+     * @param pageable 分页参数
+     * @param type     投影类型
+     * @param <P>      投影类型
+     * @return 分片结果
+     */
+    default <P> Slice<P> findSliceByDeletedFalse(Pageable pageable, Class<P> type) {
+        return findSliceByDeleted(0, pageable, type);
+    }
+
+    /**
+     * 游标分页：查询第一页，按 (createTime, id) 倒序
+     * 
+     * @param pageable 仅使用 pageSize 作为 LIMIT
+     * @return 记录列表
+     */
+    @Query("SELECT e FROM #{#entityName} e WHERE e.deleted = 0 ORDER BY e.createTime DESC, e.id DESC")
+    List<T> findKeysetFirst(Pageable pageable);
+
+    /**
+     * 游标分页：查询指定位置之后的记录，按 (createTime, id) 倒序
+     * 
+     * @param createTime 上一页最后一条记录的创建时间
+     * @param id         上一页最后一条记录的ID
+     * @param pageable   仅使用 pageSize 作为 LIMIT
+     * @return 记录列表
+     */
+    @Query("SELECT e FROM #{#entityName} e WHERE e.deleted = 0 "
+            + "AND (e.createTime < :createTime OR (e.createTime = :createTime AND e.id < :id)) "
+            + "ORDER BY e.createTime DESC, e.id DESC")
+    List<T> findKeysetAfter(@Param("createTime") LocalDateTime createTime, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 游标分页：查询游标之后的 limit 条未删除记录
+     * 
+     * @param cursor 游标，为 null 时查询第一页
+     * @param limit  查询条数
+     * @return 记录列表
+     */
+    default List<T> findAfter(KeysetCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return findKeysetFirst(pageable);
+        }
+        return findKeysetAfter(cursor.getCreateTime(), cursor.getId(), pageable);
+    }
+
     /**
      * 根据 ID 查询未删除的记录
      * 
@@ -48,6 +167,15 @@ public interface BaseRepository<T extends BaseEntity, ID> extends JpaRepository<
     @Query("SELECT e FROM #{#entityName} e WHERE e.id = :id AND e.deleted = 0")
     Optional<T> findByIdAndDeleted(@Param("id") ID id);
 
+    /**
+     * 根据 ID 集合查询未删除的记录
+     * 
+     * @param ids 主键ID列表
+     * @return 记录列表，顺序不确定
+     */
+    @Query("SELECT e FROM #{#entityName} e WHERE e.id IN :ids AND e.deleted = 0")
+    List<T> findAllByIdInAndDeletedFalse(@Param("ids") Collection<ID> ids);
+
     /**
      * 检查指定 ID 的记录是否存在且未删除
      * 
@@ -59,21 +187,89 @@ public interface BaseRepository<T extends BaseEntity, ID> extends JpaRepository<
 
     /**
      * 逻辑删除指定 ID 的记录
+     * 同时递增版本号，使持有旧版本的缓存和并发更新能够感知变更；已删除的记录不再重复更新
      * 
      * @param id 主键ID
+     * @return 本次由未删除变为已删除的记录数
      */
     @Modifying
-    @Query("UPDATE #{#entityName} e SET e.deleted = 1, e.updateTime = CURRENT_TIMESTAMP WHERE e.id = :id")
-    void logicalDeleteById(@Param("id") ID id);
+    @Query("UPDATE #{#entityName} e SET e.deleted = 1, e.updateTime = CURRENT_TIMESTAMP, e.version = e.version + 1 "
+            + "WHERE e.id = :id AND e.deleted = 0")
+    int logicalDeleteById(@Param("id") ID id);
 
     /**
      * 批量逻辑删除
      * 
      * @param ids 主键ID列表
+     * @return 本次由未删除变为已删除的记录数
+     */
+    @Modifying
+    @Query("UPDATE #{#entityName} e SET e.deleted = 1, e.updateTime = CURRENT_TIMESTAMP, e.version = e.version + 1 "
+            + "WHERE e.id IN :ids AND e.deleted = 0")
+    int logicalDeleteByIds(@Param("ids") List<ID> ids);
+
+    /**
+     * 分批逻辑删除，每批一条 UPDATE 语句，缩短单条语句的锁定范围
+     * 
+     * @param ids       主键ID列表
+     * @param chunkSize 每批 ID 数量
+     * @return 本次由未删除变为已删除的记录数
+     */
+    default int logicalDeleteByIds(List<ID> ids, int chunkSize) {
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            deleted += logicalDeleteByIds(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return deleted;
+    }
+
+    /**
+     * 查询逻辑删除超过保留时长的记录 ID，按 ID 升序
+     * 截止时间由数据库 CURRENT_TIMESTAMP 计算，与逻辑删除写入 updateTime 使用同一时钟
+     * 
+     * @param retentionSeconds 保留时长（秒）
+     * @param pageable         分页参数，用于限制条数
+     * @return 主键ID列表
+     */
+    @Query("SELECT e.id FROM #{#entityName} e WHERE e.deleted = 1 "
+            + "AND e.updateTime < CURRENT_TIMESTAMP - :retentionSeconds SECOND ORDER BY e.id")
+    List<ID> findPurgeableIds(@Param("retentionSeconds") long retentionSeconds, Pageable pageable);
+
+    /**
+     * 物理删除已逻辑删除的记录，未删除的记录不受影响
+     * 
+     * @param ids 主键ID列表
+     * @return 删除的记录数
      */
     @Modifying
-    @Query("UPDATE #{#entityName} e SET e.deleted = 1, e.updateTime = CURRENT_TIMESTAMP WHERE e.id IN :ids")
-    void logicalDeleteByIds(@Param("ids") List<ID> ids);
+    @Query("DELETE FROM #{#entityName} e WHERE e.id IN :ids AND e.deleted = 1")
+    int purgeDeletedByIds(@Param("ids") List<ID> ids);
+
+    /**
+     * 按 ID 集合物理删除（单条 DELETE ... WHERE id IN 语句）
+     * 不加载实体、不触发生命周期回调和级联，不存在的 ID 会被忽略
+     * 
+     * @param ids 主键ID列表
+     * @return 删除的记录数
+     */
+    @Modifying
+    @Query("DELETE FROM #{#entityName} e WHERE e.id IN :ids")
+    int bulkDeleteByIds(@Param("ids") List<ID> ids);
+
+    /**
+     * 分批物理删除，每批一条 DELETE 语句，避免 IN 列表过长超出数据包限制或锁定范围过大
+     * 
+     * @param ids       主键ID列表
+     * @param chunkSize 每批 ID 数量
+     * @return 删除的记录数
+     */
+    default int bulkDeleteByIds(List<ID> ids, int chunkSize) {
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            deleted += bulkDeleteByIds(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return deleted;
+    }
 
     /**
      * 统计未删除的记录数量
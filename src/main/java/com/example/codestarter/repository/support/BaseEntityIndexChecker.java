@@ -0,0 +1,109 @@
+package com.example.codestarter.repository.support;
+
+import com.example.codestarter.entity.BaseEntity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 启动时检查 BaseEntity 表是否具备通用查询所需的索引
+ * ddl-auto 为 none / validate 或表由迁移脚本维护时，缺少索引会让所有 deleted = 0 的列表查询退化为全表扫描和文件排序
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.persistence", name = "index-check", havingValue = "true", matchIfMissing = true)
+public class BaseEntityIndexChecker {
+
+    private final DataSource dataSource;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final EntityTableResolver tableResolver;
+
+    /**
+     * 检查所有 BaseEntity 表，缺少索引时输出告警和建议的建索引语句
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+                Class<?> type = entityType.getJavaType();
+                if (type == null || !BaseEntity.class.isAssignableFrom(type)) {
+                    continue;
+                }
+                checkTable(metaData, connection.getCatalog(), tableResolver.getTableName(type));
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.warn("检查 BaseEntity 表索引失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 获取表上缺少的索引
+     *
+     * @param metaData  数据库元数据
+     * @param catalog   当前库
+     * @param tableName 表名
+     * @return 缺少的索引定义
+     * @throws SQLException 读取元数据失败
+     */
+    List<BaseEntityIndexes.IndexDefinition> findMissingIndexes(DatabaseMetaData metaData, String catalog,
+                                                                String tableName) throws SQLException {
+        List<List<String>> indexes = readIndexes(metaData, catalog, tableName);
+        List<BaseEntityIndexes.IndexDefinition> missing = new ArrayList<>();
+        for (BaseEntityIndexes.IndexDefinition definition : BaseEntityIndexes.ALL) {
+            if (indexes.stream().noneMatch(columns -> startsWith(columns, definition.columns()))) {
+                missing.add(definition);
+            }
+        }
+        return missing;
+    }
+
+    private void checkTable(DatabaseMetaData metaData, String catalog, String tableName) throws SQLException {
+        for (BaseEntityIndexes.IndexDefinition definition : findMissingIndexes(metaData, catalog, tableName)) {
+            log.warn("表 {} 缺少索引 ({})，建议执行: CREATE INDEX {} ON {} ({})", tableName,
+                    String.join(", ", definition.columns()), definition.indexName(tableName), tableName,
+                    String.join(", ", definition.columns()));
+        }
+    }
+
+    private List<List<String>> readIndexes(DatabaseMetaData metaData, String catalog, String tableName)
+            throws SQLException {
+        String table = metaData.storesUpperCaseIdentifiers() ? tableName.toUpperCase(Locale.ROOT)
+                : metaData.storesLowerCaseIdentifiers() ? tableName.toLowerCase(Locale.ROOT) : tableName;
+        Map<String, Map<Short, String>> indexes = new TreeMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(catalog, null, table, false, true)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (indexName != null && column != null) {
+                    indexes.computeIfAbsent(indexName, k -> new TreeMap<>())
+                            .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return indexes.values().stream().map(columns -> List.copyOf(columns.values())).toList();
+    }
+
+    private boolean startsWith(List<String> columns, List<String> prefix) {
+        return columns.size() >= prefix.size() && columns.subList(0, prefix.size()).equals(prefix);
+    }
+}
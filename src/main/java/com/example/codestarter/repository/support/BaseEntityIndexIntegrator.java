@@ -0,0 +1,75 @@
+package com.example.codestarter.repository.support;
+
+import com.example.codestarter.entity.BaseEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.RootClass;
+import org.hibernate.mapping.Table;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 为所有 BaseEntity 表补充 {@link BaseEntityIndexes} 中的索引
+ * <p>
+ * BaseEntity 是 @MappedSuperclass，无法通过 @Table(indexes) 统一声明索引，这里在映射构建完成、
+ * 执行 DDL 之前直接修改表模型，ddl-auto 为 create / update 时会随表一起创建。
+ * 实体自身已声明相同前缀列的索引时跳过。
+ */
+@Slf4j
+public class BaseEntityIndexIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        for (PersistentClass entity : metadata.getEntityBindings()) {
+            // 子类实体共用根实体的表（或仅保存子类字段），只处理根实体
+            if (!(entity instanceof RootClass) || entity.getMappedClass() == null
+                    || !BaseEntity.class.isAssignableFrom(entity.getMappedClass())) {
+                continue;
+            }
+            Table table = entity.getTable();
+            for (BaseEntityIndexes.IndexDefinition definition : BaseEntityIndexes.ALL) {
+                addIndex(table, definition);
+            }
+        }
+    }
+
+    private void addIndex(Table table, BaseEntityIndexes.IndexDefinition definition) {
+        List<Column> columns = definition.columns().stream()
+                .map(name -> table.getColumn(new Column(name)))
+                .toList();
+        if (columns.contains(null) || hasIndexWithPrefix(table, definition.columns())) {
+            return;
+        }
+        Index index = table.getOrCreateIndex(definition.indexName(table.getName()));
+        index.addColumns(columns);
+        log.debug("为表 {} 添加索引 {}{}", table.getName(), index.getName(), definition.columns());
+    }
+
+    private boolean hasIndexWithPrefix(Table table, List<String> columnNames) {
+        return table.getIndexes().values().stream().anyMatch(index -> {
+            List<Column> columns = index.getColumns();
+            if (columns.size() < columnNames.size()) {
+                return false;
+            }
+            for (int i = 0; i < columnNames.size(); i++) {
+                if (!columns.get(i).getName().toLowerCase(Locale.ROOT).equals(columnNames.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.codestarter.repository.support;
+
+import java.util.List;
+
+/**
+ * BaseRepository 通用查询依赖的索引定义
+ * <ul>
+ *     <li>(deleted, create_time, id)：未删除数据的列表、分页和游标分页，按 create_time DESC, id DESC 直接走索引排序</li>
+ *     <li>(deleted, update_time)：清理逻辑删除超过保留期的数据</li>
+ * </ul>
+ */
+public final class BaseEntityIndexes {
+
+    /**
+     * 列表查询索引
+     */
+    public static final IndexDefinition LIVE_ROWS = new IndexDefinition("live",
+            List.of("deleted", "create_time", "id"));
+
+    /**
+     * 清理查询索引
+     */
+    public static final IndexDefinition PURGE = new IndexDefinition("purge",
+            List.of("deleted", "update_time"));
+
+    /**
+     * 所有索引定义
+     */
+    public static final List<IndexDefinition> ALL = List.of(LIVE_ROWS, PURGE);
+
+    private BaseEntityIndexes() {
+    }
+
+    /**
+     * 索引定义
+     *
+     * @param suffix  索引名后缀，完整名称为 idx_表名_后缀
+     * @param columns 按顺序排列的列名
+     */
+    public record IndexDefinition(String suffix, List<String> columns) {
+
+        /**
+         * 生成指定表上的索引名
+         *
+         * @param tableName 表名
+         * @return 索引名
+         */
+        public String indexName(String tableName) {
+            return "idx_" + tableName + "_" + suffix;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.codestarter.repository.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 根据 Hibernate 映射元数据解析实体对应的表名
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityTableResolver {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Map<Class<?>, String> tableNames = new ConcurrentHashMap<>();
+
+    /**
+     * 获取实体对应的表名
+     *
+     * @param entityType 实体类型
+     * @return 表名
+     */
+    public String getTableName(Class<?> entityType) {
+        return tableNames.computeIfAbsent(entityType, type -> {
+            AbstractEntityPersister persister = (AbstractEntityPersister) entityManagerFactory
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getMappingMetamodel()
+                    .getEntityDescriptor(type);
+            return persister.getTableName();
+        });
+    }
+}
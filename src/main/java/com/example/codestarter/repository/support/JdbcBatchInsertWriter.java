@@ -0,0 +1,209 @@
+package com.example.codestarter.repository.support;
+
+import com.example.codestarter.entity.BaseEntity;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MariaDBDialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.type.Type;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 基于 JDBC Batch 的批量插入写入器
+ * <p>
+ * IDENTITY 主键会使 Hibernate 放弃 INSERT 批处理，此写入器根据 Hibernate 映射元数据生成 INSERT 语句，
+ * 通过 {@link PreparedStatement#executeBatch()} 分批提交，并回填自增主键。
+ * MySQL 连接串开启 rewriteBatchedStatements=true 后，驱动会将每批改写为多值 INSERT。
+ * <p>
+ * 写入的实体不会进入持久化上下文，也不会触发 JPA 生命周期回调和审计监听器，
+ * 公共字段通过 {@link BaseEntity#fillDefaults()} 填充。仅支持无继承关系的单表实体。
+ * <p>
+ * {@link #upsert} 使用 MySQL 的 INSERT ... ON DUPLICATE KEY UPDATE 语法（H2 需开启 MODE=MySQL），
+ * MySQL 8.0.19 及以上使用 AS new 行别名引用新值，其他数据库使用已废弃的 VALUES(col)。
+ */
+@Slf4j
+@Component
+public class JdbcBatchInsertWriter {
+
+    /**
+     * upsert 覆盖已有行时保持原值的属性
+     */
+    private static final Set<String> UPSERT_PRESERVED_PROPERTIES = Set.of("deleted", "createTime", "createBy");
+
+    private final Map<Class<?>, InsertPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * 批量插入实体，需在事务中调用
+     *
+     * @param entityManager 当前事务的 EntityManager
+     * @param entities      待插入实体，插入后回填ID
+     * @param batchSize     每批条数
+     * @return 插入行数
+     */
+    public <T extends BaseEntity> int insert(EntityManager entityManager, List<T> entities, int batchSize) {
+        if (entities.isEmpty()) {
+            return 0;
+        }
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        InsertPlan plan = getPlan(session, entities.get(0).getClass());
+        return write(session, plan, plan.insertSql, false, entities, batchSize);
+    }
+
+    /**
+     * 批量插入或更新实体，需在事务中调用
+     * 未设置ID的实体按 {@link #insert} 插入；已设置ID的实体按主键插入，主键已存在时覆盖可更新列并递增版本号。
+     * 覆盖时不校验版本号，以最后一次写入为准；逻辑删除标志、创建时间、创建者保持原值，已逻辑删除的记录不会被恢复。
+     * <p>
+     * 只按主键匹配：ON DUPLICATE KEY 对任意唯一索引冲突都会触发更新，
+     * 表上有其他唯一索引时调用方需保证这些列不会与其他行冲突，否则会覆盖冲突的那一行
+     *
+     * @param entityManager 当前事务的 EntityManager
+     * @param entities      待写入实体
+     * @param batchSize     每批条数
+     * @return 写入的实体数量
+     */
+    public <T extends BaseEntity> int upsert(EntityManager entityManager, List<T> entities, int batchSize) {
+        if (entities.isEmpty()) {
+            return 0;
+        }
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        InsertPlan plan = getPlan(session, entities.get(0).getClass());
+        List<T> newEntities = new ArrayList<>();
+        List<T> identified = new ArrayList<>();
+        for (T entity : entities) {
+            (entity.getId() == null ? newEntities : identified).add(entity);
+        }
+        write(session, plan, plan.insertSql, false, newEntities, batchSize);
+        write(session, plan, plan.upsertSql, true, identified, batchSize);
+        return entities.size();
+    }
+
+    private <T extends BaseEntity> int write(SessionImplementor session, InsertPlan plan, String sql,
+                                             boolean withId, List<T> entities, int batchSize) {
+        if (entities.isEmpty()) {
+            return 0;
+        }
+        // 先刷出当前上下文中的待执行语句，保证写入顺序
+        session.flush();
+        int[] written = new int[1];
+        session.doWork(connection -> {
+            try (PreparedStatement ps = withId ? connection.prepareStatement(sql)
+                    : connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (int from = 0; from < entities.size(); from += batchSize) {
+                    List<T> chunk = entities.subList(from, Math.min(from + batchSize, entities.size()));
+                    for (T entity : chunk) {
+                        if (withId) {
+                            entity.setUpdateTime(BaseEntity.now());
+                        }
+                        entity.fillDefaults();
+                        Object[] values = plan.persister.getPropertyValues(entity);
+                        int index = 1;
+                        if (withId) {
+                            plan.persister.getIdentifierType().nullSafeSet(ps, entity.getId(), index++, session);
+                        }
+                        for (int property : plan.properties) {
+                            Type type = plan.persister.getPropertyTypes()[property];
+                            type.nullSafeSet(ps, values[property], index, session);
+                            index += plan.persister.getPropertyColumnSpan(property);
+                        }
+                        ps.addBatch();
+                    }
+                    for (int count : ps.executeBatch()) {
+                        // ON DUPLICATE KEY UPDATE 更新时返回 2，这里统计的是写入的实体数
+                        written[0] += count == Statement.SUCCESS_NO_INFO || withId ? 1 : count;
+                    }
+                    if (!withId) {
+                        try (ResultSet keys = ps.getGeneratedKeys()) {
+                            for (T entity : chunk) {
+                                if (!keys.next()) {
+                                    break;
+                                }
+                                plan.persister.setIdentifier(entity, keys.getLong(1), session);
+                            }
+                        }
+                    }
+                    log.debug("批量写入 {}，本批数量: {}", plan.persister.getEntityName(), chunk.size());
+                }
+            }
+        });
+        return written[0];
+    }
+
+    private InsertPlan getPlan(SessionImplementor session, Class<?> type) {
+        return plans.computeIfAbsent(type, t -> createPlan(session, t));
+    }
+
+    private InsertPlan createPlan(SessionImplementor session, Class<?> type) {
+        AbstractEntityPersister persister = (AbstractEntityPersister) session.getFactory()
+                .getMappingMetamodel().getEntityDescriptor(type);
+        if (persister.isInherited() || persister.getEntityMetamodel().hasSubclasses()) {
+            throw new IllegalStateException("批量插入暂不支持继承映射的实体: " + type.getName());
+        }
+        List<Integer> properties = new ArrayList<>();
+        List<String> columns = new ArrayList<>();
+        boolean[] insertable = persister.getPropertyInsertability();
+        for (int i = 0; i < insertable.length; i++) {
+            if (insertable[i] && persister.getPropertyColumnSpan(i) > 0) {
+                properties.add(i);
+                columns.addAll(List.of(persister.getPropertyColumnNames(i)));
+            }
+        }
+        String insertSql = "INSERT INTO " + persister.getTableName()
+                + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        String upsertSql = createUpsertSql(persister, columns, supportsRowAlias(session.getJdbcServices().getDialect()));
+        log.debug("生成批量插入语句: {}", insertSql);
+        return new InsertPlan(persister, properties.stream().mapToInt(Integer::intValue).toArray(),
+                insertSql, upsertSql);
+    }
+
+    /**
+     * 是否支持 INSERT ... AS new 行别名（MySQL 8.0.19+，MariaDB 不支持）
+     */
+    private static boolean supportsRowAlias(Dialect dialect) {
+        return dialect instanceof MySQLDialect && !(dialect instanceof MariaDBDialect)
+                && dialect.getVersion().isSameOrAfter(8, 0, 19);
+    }
+
+    private String createUpsertSql(AbstractEntityPersister persister, List<String> columns, boolean rowAlias) {
+        List<String> idColumns = List.of(persister.getIdentifierColumnNames());
+        List<String> allColumns = new ArrayList<>(idColumns);
+        allColumns.addAll(columns);
+        List<String> assignments = new ArrayList<>();
+        boolean[] updatable = persister.getPropertyUpdateability();
+        int versionProperty = persister.isVersioned() ? persister.getVersionProperty() : -1;
+        String[] propertyNames = persister.getPropertyNames();
+        for (int i = 0; i < updatable.length; i++) {
+            if (!updatable[i] || persister.getPropertyColumnSpan(i) == 0
+                    || UPSERT_PRESERVED_PROPERTIES.contains(propertyNames[i])) {
+                continue;
+            }
+            for (String column : persister.getPropertyColumnNames(i)) {
+                assignments.add(i == versionProperty ? column + " = " + column + " + 1"
+                        : column + " = " + (rowAlias ? "new." + column : "VALUES(" + column + ")"));
+            }
+        }
+        return "INSERT INTO " + persister.getTableName()
+                + " (" + String.join(", ", allColumns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(allColumns.size(), "?")) + ")"
+                + (rowAlias ? " AS new" : "")
+                + " ON DUPLICATE KEY UPDATE " + String.join(", ", assignments);
+    }
+
+    private record InsertPlan(AbstractEntityPersister persister, int[] properties, String insertSql,
+                              String upsertSql) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.codestarter.repository.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL 采样日志
+ * 每 sampleRate 条 SQL 以 INFO 级别输出一条，不修改 SQL；用于生产环境关闭 show-sql 后观察实际执行的语句
+ */
+public class SampledSqlLogger implements StatementInspector {
+
+    /**
+     * 日志名，与 org.hibernate.SQL、org.hibernate.SQL_SLOW 并列，便于单独调整级别
+     */
+    public static final String LOGGER_NAME = "org.hibernate.SQL_SAMPLE";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final int sampleRate;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    public SampledSqlLogger(int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("sampleRate 必须大于 0");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (counter.incrementAndGet() % sampleRate == 0 && log.isInfoEnabled()) {
+            log.info("[1/{}] {}", sampleRate, sql);
+        }
+        return sql;
+    }
+}
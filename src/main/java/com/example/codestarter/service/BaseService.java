@@ -1,11 +1,21 @@
 package com.example.codestarter.service;
 
+import com.example.codestarter.common.CursorPage;
 import com.example.codestarter.entity.BaseEntity;
+import com.example.codestarter.entity.EntityVersion;
+import com.example.codestarter.service.bulk.BulkProgress;
+import com.example.codestarter.service.count.CountMode;
+import com.example.codestarter.service.deletion.DeletionJob;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 基础 Service 接口
@@ -24,14 +34,75 @@ public interface BaseService<T extends BaseEntity, ID> {
      */
     T save(T entity);
 
+    /**
+     * 读取-修改-写入更新
+     * 在事务中按 ID 读取未删除的实体并执行修改逻辑，发生乐观锁冲突时重新读取并重试（见 app.optimistic-lock）
+     * 
+     * @param id       主键ID
+     * @param modifier 修改逻辑，重试时会再次执行，不应包含外部副作用
+     * @return 更新后的实体
+     */
+    T update(ID id, Consumer<? super T> modifier);
+
     /**
      * 批量保存实体
+     * <p>
+     * 数量超过 app.persistence.batch-size 时分批 flush，并将已写入的实体从持久化上下文中脱管：
+     * 返回的实体不再受当前事务管理，之后的修改不会自动写回，未初始化的延迟关联也无法再加载。
+     * 不超过一批时返回的实体仍处于托管状态。
      * 
      * @param entities 实体列表
-     * @return 保存后的实体列表
+     * @return 保存后的实体列表（超过一批时为脱管实体）
      */
     List<T> saveAll(List<T> entities);
 
+    /**
+     * 批量插入新实体
+     * 通过 JDBC Batch 写入，不经过持久化上下文和 JPA 生命周期回调，插入后回填ID
+     * 
+     * @param entities 新实体列表
+     * @return 插入行数
+     */
+    int batchInsert(List<T> entities);
+
+    /**
+     * 流式批量插入新实体
+     * 按批通过 JDBC Batch 写入，不经过持久化上下文、生命周期回调和审计监听器，
+     * 公共字段按 {@link BaseEntity#fillDefaults()} 填充；整个导入在一个事务中完成
+     * 
+     * @param entities 新实体流，写入完成后关闭
+     * @return 写入进度
+     */
+    BulkProgress bulkInsert(Stream<T> entities);
+
+    /**
+     * 流式批量插入新实体，每写完一批回调一次进度
+     * 
+     * @param entities 新实体流，写入完成后关闭
+     * @param listener 进度回调
+     * @return 写入进度
+     */
+    BulkProgress bulkInsert(Stream<T> entities, Consumer<BulkProgress> listener);
+
+    /**
+     * 流式批量插入或更新
+     * 未设置ID的实体插入；已设置ID的实体按主键插入，主键已存在时覆盖（不校验版本号），
+     * 逻辑删除标志、创建时间、创建者保持原值。只按主键匹配，表上不能有其他可能冲突的唯一索引
+     * 
+     * @param entities 实体流，写入完成后关闭
+     * @return 写入进度
+     */
+    BulkProgress bulkUpsert(Stream<T> entities);
+
+    /**
+     * 流式批量插入或更新，每写完一批回调一次进度
+     * 
+     * @param entities 实体流，写入完成后关闭
+     * @param listener 进度回调
+     * @return 写入进度
+     */
+    BulkProgress bulkUpsert(Stream<T> entities, Consumer<BulkProgress> listener);
+
     /**
      * 根据 ID 物理删除
      * 
@@ -41,10 +112,12 @@ public interface BaseService<T extends BaseEntity, ID> {
 
     /**
      * 批量物理删除
+     * 按批执行 DELETE ... WHERE id IN 语句，不加载实体、不触发级联，不存在的 ID 会被忽略
      * 
      * @param ids 主键ID列表
+     * @return 删除的记录数
      */
-    void deleteByIds(List<ID> ids);
+    int deleteByIds(List<ID> ids);
 
     /**
      * 根据 ID 逻辑删除
@@ -60,6 +133,24 @@ public interface BaseService<T extends BaseEntity, ID> {
      */
     void deleteByIdsLogical(List<ID> ids);
 
+    /**
+     * 后台分批逻辑删除
+     * 每批一个独立事务并限速执行，适用于大量 ID，立即返回可查询进度的任务
+     * 
+     * @param ids 主键ID列表
+     * @return 删除任务
+     */
+    DeletionJob deleteByIdsLogicalInBackground(List<ID> ids);
+
+    /**
+     * 分批物理删除逻辑删除超过保留时长的记录
+     * 截止时间由数据库时钟计算，不受应用与数据库之间时区、时钟偏差影响
+     * 
+     * @param retention 保留时长
+     * @return 删除的记录数
+     */
+    long purgeDeleted(Duration retention);
+
     /**
      * 根据 ID 查询（包含已删除数据）
      * 
@@ -76,6 +167,15 @@ public interface BaseService<T extends BaseEntity, ID> {
      */
     Optional<T> findByIdAndNotDeleted(ID id);
 
+    /**
+     * 根据 ID 集合查询未删除数据
+     * 合并为 WHERE id IN (...) 查询（按 app.persistence.in-clause-size 分批），按传入 ID 的顺序返回，忽略不存在的 ID
+     * 
+     * @param ids 主键ID集合
+     * @return 实体列表
+     */
+    List<T> findAllByIds(Collection<ID> ids);
+
     /**
      * 查询所有未删除数据
      * 
@@ -83,6 +183,25 @@ public interface BaseService<T extends BaseEntity, ID> {
      */
     List<T> findAll();
 
+    /**
+     * 流式查询所有未删除数据，按创建时间倒序
+     * 必须在调用方的事务内消费，并在使用后关闭流；读取下一条时上一条实体脱管，关闭流时脱管最后一条。
+     * app.persistence.stream-fetch-size 为 Integer.MIN_VALUE（MySQL 逐行流式读取）时，
+     * 消费期间不能在同一事务内执行其他查询，包括延迟加载关联
+     * 
+     * @return 实体流
+     */
+    Stream<T> streamAll();
+
+    /**
+     * 逐条处理所有未删除数据，内存占用与数据量无关
+     * 处理逻辑执行期间实体仍受管，执行后脱管；查询限制同 {@link #streamAll()}
+     * 
+     * @param action 处理逻辑
+     * @return 处理条数
+     */
+    long forEachNotDeleted(Consumer<? super T> action);
+
     /**
      * 分页查询未删除数据
      * 
@@ -91,6 +210,90 @@ public interface BaseService<T extends BaseEntity, ID> {
      */
     Page<T> findAllByPage(Pageable pageable);
 
+    /**
+     * 分页查询未删除数据，按指定方式统计总数
+     * 
+     * @param pageable  分页参数
+     * @param countMode 总数统计方式
+     * @return 分页结果
+     */
+    Page<T> findAllByPage(Pageable pageable, CountMode countMode);
+
+    /**
+     * 分页查询未删除数据（不统计总数）
+     * 
+     * @param pageable 分页参数
+     * @return 分片结果
+     */
+    Slice<T> findSliceByPage(Pageable pageable);
+
+    /**
+     * 查询所有未删除数据并投影为指定类型
+     * 支持接口投影（只查询声明的列）和 DTO / record 投影，结果不受持久化上下文管理
+     * 
+     * @param type 投影类型
+     * @param <P>  投影类型
+     * @return 投影列表
+     */
+    <P> List<P> findAll(Class<P> type);
+
+    /**
+     * 根据 ID 查询未删除数据并投影为指定类型
+     * 
+     * @param id   主键ID
+     * @param type 投影类型
+     * @param <P>  投影类型
+     * @return 投影结果
+     */
+    <P> Optional<P> findByIdAndNotDeleted(ID id, Class<P> type);
+
+    /**
+     * 根据 ID 查询未删除数据的版本号和更新时间
+     * 优先读取实体缓存，未命中时只查询这两列，不加载实体
+     * 
+     * @param id 主键ID
+     * @return 版本信息
+     */
+    Optional<EntityVersion> findVersionById(ID id);
+
+    /**
+     * 分页查询未删除数据并投影为指定类型
+     * 
+     * @param pageable 分页参数
+     * @param type     投影类型
+     * @param <P>      投影类型
+     * @return 分页结果
+     */
+    <P> Page<P> findAllByPageAs(Pageable pageable, Class<P> type);
+
+    /**
+     * 分页查询未删除数据并投影为指定类型（不统计总数）
+     * 
+     * @param pageable 分页参数
+     * @param type     投影类型
+     * @param <P>      投影类型
+     * @return 分片结果
+     */
+    <P> Slice<P> findSliceByPage(Pageable pageable, Class<P> type);
+
+    /**
+     * 分页查询未删除数据（不统计总数），通过 StatelessSession 加载
+     * 返回的实体不进入持久化上下文，没有快照和脏检查，修改后需显式 save，懒加载关联不可用
+     * 
+     * @param pageable 分页参数，未指定排序时按创建时间、ID 倒序
+     * @return 分片结果
+     */
+    Slice<T> findSliceUnmanaged(Pageable pageable);
+
+    /**
+     * 游标分页查询未删除数据，按创建时间倒序
+     * 
+     * @param cursor 上一页返回的游标，为空表示第一页
+     * @param limit  每页条数
+     * @return 游标分页结果
+     */
+    CursorPage<T> findAfter(String cursor, int limit);
+
     /**
      * 检查指定 ID 的记录是否存在
      * 
@@ -120,4 +323,12 @@ public interface BaseService<T extends BaseEntity, ID> {
      * @return 记录数量
      */
     long countNotDeleted();
+
+    /**
+     * 按指定方式统计未删除记录数量
+     * 
+     * @param countMode 统计方式
+     * @return 记录数量
+     */
+    long countNotDeleted(CountMode countMode);
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.example.codestarter.service.async;
+
+import com.example.codestarter.entity.BaseEntity;
+import com.example.codestarter.service.BaseService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * BaseService 的异步门面
+ * <p>
+ * 每个方法在独立的执行器线程上调用 Service 代理，各自开启并提交事务，调用方可以并发发起多个查询再组合结果。
+ * 调用线程中的事务、持久化上下文和线程上下文不会传递到执行器线程，返回的实体均为脱管状态。
+ * 通过 {@link AsyncServices#of(BaseService)} 创建。
+ *
+ * @param <T>  实体类型
+ * @param <ID> 主键类型
+ */
+public class AsyncBaseService<T extends BaseEntity, ID> {
+
+    private final BaseService<T, ID> service;
+
+    private final AsyncServices asyncServices;
+
+    private final int chunkSize;
+
+    AsyncBaseService(BaseService<T, ID> service, AsyncServices asyncServices, int chunkSize) {
+        this.service = service;
+        this.asyncServices = asyncServices;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 异步执行任意 Service 调用
+     *
+     * @param call 调用逻辑
+     * @param <R>  返回类型
+     * @return 调用结果
+     */
+    public <R> CompletableFuture<R> call(Function<? super BaseService<T, ID>, ? extends R> call) {
+        return asyncServices.supply(() -> call.apply(service));
+    }
+
+    /**
+     * 异步根据 ID 查询（包含已删除数据）
+     *
+     * @param id 主键ID
+     * @return 实体对象
+     */
+    public CompletableFuture<Optional<T>> findById(ID id) {
+        return call(s -> s.findById(id));
+    }
+
+    /**
+     * 异步根据 ID 查询（仅未删除数据）
+     *
+     * @param id 主键ID
+     * @return 实体对象
+     */
+    public CompletableFuture<Optional<T>> findByIdAndNotDeleted(ID id) {
+        return call(s -> s.findByIdAndNotDeleted(id));
+    }
+
+    /**
+     * 异步根据 ID 集合查询未删除数据
+     * 超过一条 IN 语句容量时按批并行查询，按传入 ID 的顺序合并结果
+     *
+     * @param ids 主键ID集合
+     * @return 实体列表
+     */
+    public CompletableFuture<List<T>> findAllByIds(Collection<ID> ids) {
+        List<ID> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        if (distinctIds.size() <= chunkSize) {
+            return call(s -> s.findAllByIds(distinctIds));
+        }
+        List<CompletableFuture<List<T>>> futures = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            List<ID> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            futures.add(call(s -> s.findAllByIds(chunk)));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            List<T> entities = new ArrayList<>(distinctIds.size());
+            futures.forEach(future -> entities.addAll(future.join()));
+            return entities;
+        });
+    }
+
+    /**
+     * 异步分页查询未删除数据
+     *
+     * @param pageable 分页参数
+     * @return 分页结果
+     */
+    public CompletableFuture<Page<T>> findAllByPage(Pageable pageable) {
+        return call(s -> s.findAllByPage(pageable));
+    }
+
+    /**
+     * 异步统计未删除记录数量
+     *
+     * @return 记录数量
+     */
+    public CompletableFuture<Long> countNotDeleted() {
+        return call(BaseService::countNotDeleted);
+    }
+
+    /**
+     * 异步保存实体
+     *
+     * @param entity 实体对象
+     * @return 保存后的实体
+     */
+    public CompletableFuture<T> save(T entity) {
+        return call(s -> s.save(entity));
+    }
+
+    /**
+     * 异步读取-修改-写入更新
+     *
+     * @param id       主键ID
+     * @param modifier 修改逻辑
+     * @return 更新后的实体
+     */
+    public CompletableFuture<T> update(ID id, Consumer<? super T> modifier) {
+        return call(s -> s.update(id, modifier));
+    }
+
+    /**
+     * 异步逻辑删除
+     *
+     * @param id 主键ID
+     * @return 完成信号
+     */
+    public CompletableFuture<Void> deleteByIdLogical(ID id) {
+        return call(s -> {
+            s.deleteByIdLogical(id);
+            return null;
+        });
+    }
+}
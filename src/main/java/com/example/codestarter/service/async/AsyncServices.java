@@ -0,0 +1,96 @@
+package com.example.codestarter.service.async;
+
+import com.example.codestarter.config.AsyncServiceProperties;
+import com.example.codestarter.config.PersistenceProperties;
+import com.example.codestarter.entity.BaseEntity;
+import com.example.codestarter.exception.BusinessException;
+import com.example.codestarter.service.BaseService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 异步 Service 工厂及其执行器
+ * <p>
+ * 执行器线程数默认为 Hikari 连接池大小的一半，队列有界，避免异步调用堆积出远超连接数的等待。
+ * 调用方在事务中扇出异步调用并等待结果时自身仍持有一个连接，若执行器线程数等于连接池大小，
+ * 异步任务会因拿不到连接一直等到 connection-timeout，因此线程数始终小于连接池大小。
+ * 执行器不注册为 Spring 的 Executor Bean，不影响 @Async 与 MVC 异步请求使用的默认执行器。
+ */
+@Slf4j
+@Component
+public class AsyncServices {
+
+    private final ThreadPoolExecutor executor;
+
+    private final PersistenceProperties persistenceProperties;
+
+    public AsyncServices(AsyncServiceProperties properties, PersistenceProperties persistenceProperties,
+                         @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        int poolSize = properties.getPoolSize() > 0 ? properties.getPoolSize() : maximumPoolSize / 2;
+        if (poolSize >= maximumPoolSize) {
+            log.warn("app.async-service.pool-size={} 不小于连接池大小 {}，调整为 {}", poolSize, maximumPoolSize,
+                    maximumPoolSize - 1);
+            poolSize = maximumPoolSize - 1;
+        }
+        poolSize = Math.max(1, poolSize);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("async-service-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()), threadFactory);
+        this.executor.allowCoreThreadTimeOut(true);
+        this.persistenceProperties = persistenceProperties;
+        log.debug("异步 Service 执行器，线程数: {}, 队列长度: {}", poolSize, properties.getQueueCapacity());
+    }
+
+    /**
+     * 为 Service 创建异步门面
+     *
+     * @param service Spring 管理的 Service（代理对象），保证每次调用在各自的事务中执行
+     * @param <T>     实体类型
+     * @param <ID>    主键类型
+     * @return 异步门面
+     */
+    public <T extends BaseEntity, ID> AsyncBaseService<T, ID> of(BaseService<T, ID> service) {
+        return new AsyncBaseService<>(service, this, persistenceProperties.getInClauseSize());
+    }
+
+    /**
+     * 在执行器中执行
+     *
+     * @param task 任务
+     * @param <R>  返回类型
+     * @return 任务结果，执行器已满时以 503 业务异常完成
+     */
+    <R> CompletableFuture<R> supply(Supplier<R> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("异步 Service 执行器已满，拒绝任务");
+            return CompletableFuture.failedFuture(BusinessException.SERVICE_BUSY);
+        }
+    }
+
+    /**
+     * 执行器线程数
+     *
+     * @return 线程数
+     */
+    int poolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.codestarter.service.bulk;
+
+import java.time.Duration;
+
+/**
+ * 批量写入进度
+ *
+ * @param rows    已写入的实体数量
+ * @param chunks  已写入的批次数
+ * @param elapsed 已耗时
+ */
+public record BulkProgress(long rows, int chunks, Duration elapsed) {
+
+    /**
+     * 平均吞吐量
+     *
+     * @return 每秒写入的实体数量
+     */
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : rows * 1_000_000_000d / nanos;
+    }
+}
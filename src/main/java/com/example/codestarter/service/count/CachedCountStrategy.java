@@ -0,0 +1,41 @@
+package com.example.codestarter.service.count;
+
+import com.example.codestarter.config.CountProperties;
+import com.example.codestarter.entity.BaseEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 缓存统计策略，在过期时间内复用上一次的精确统计结果
+ */
+@Component
+public class CachedCountStrategy implements CountStrategy {
+
+    private final Cache<Class<?>, Long> counts;
+
+    public CachedCountStrategy(CountProperties properties) {
+        this.counts = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getCachedTtl())
+                .build();
+    }
+
+    @Override
+    public CountMode getMode() {
+        return CountMode.CACHED;
+    }
+
+    @Override
+    public long count(Class<? extends BaseEntity> entityType, LongSupplier exactCount) {
+        Long cached = counts.getIfPresent(entityType);
+        if (cached != null) {
+            return cached;
+        }
+        // 精确查询在缓存之外执行，不占用哈希桶锁；并发加载时各自查询，以最后写入者为准
+        long count = exactCount.getAsLong();
+        counts.put(entityType, count);
+        return count;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.codestarter.service.count;
+
+/**
+ * 统计未删除记录数量的方式
+ */
+public enum CountMode {
+
+    /**
+     * 精确统计，每次执行 COUNT 查询
+     */
+    EXACT,
+
+    /**
+     * 缓存精确统计结果，在过期时间内复用
+     */
+    CACHED,
+
+    /**
+     * 首次精确统计后，根据 Service 中的新增、删除操作增量维护，并定期重新校准
+     */
+    INCREMENTAL,
+
+    /**
+     * 根据数据库执行计划估算，不扫描数据，仅 MySQL 支持，其他数据库退化为精确统计
+     */
+    ESTIMATED
+}
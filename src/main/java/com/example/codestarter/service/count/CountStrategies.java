@@ -0,0 +1,69 @@
+package com.example.codestarter.service.count;
+
+import com.example.codestarter.config.CountProperties;
+import com.example.codestarter.entity.BaseEntity;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 统计策略注册表
+ * 收集所有 {@link CountStrategy} Bean，按统计方式分发，并向各策略广播数量变化
+ */
+@Component
+public class CountStrategies {
+
+    private final Map<CountMode, CountStrategy> strategies = new EnumMap<>(CountMode.class);
+
+    /**
+     * 默认统计方式
+     */
+    @Getter
+    private final CountMode defaultMode;
+
+    public CountStrategies(List<CountStrategy> strategies, CountProperties properties) {
+        strategies.forEach(strategy -> this.strategies.put(strategy.getMode(), strategy));
+        this.defaultMode = properties.getDefaultMode();
+    }
+
+    /**
+     * 按指定方式统计未删除记录数量
+     *
+     * @param mode       统计方式，为 null 时使用默认方式
+     * @param entityType 实体类型
+     * @param exactCount 精确统计逻辑
+     * @return 记录数量
+     */
+    public long count(CountMode mode, Class<? extends BaseEntity> entityType, LongSupplier exactCount) {
+        CountStrategy strategy = strategies.get(mode == null ? defaultMode : mode);
+        if (strategy == null) {
+            throw new IllegalArgumentException("不支持的统计方式: " + mode);
+        }
+        return strategy.count(entityType, exactCount);
+    }
+
+    /**
+     * 广播已知的数量变化
+     *
+     * @param entityType 实体类型
+     * @param delta      变化量
+     */
+    public void onChange(Class<? extends BaseEntity> entityType, long delta) {
+        if (delta != 0) {
+            strategies.values().forEach(strategy -> strategy.onChange(entityType, delta));
+        }
+    }
+
+    /**
+     * 广播无法确定的数量变化
+     *
+     * @param entityType 实体类型
+     */
+    public void invalidate(Class<? extends BaseEntity> entityType) {
+        strategies.values().forEach(strategy -> strategy.invalidate(entityType));
+    }
+}
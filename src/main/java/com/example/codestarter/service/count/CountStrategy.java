@@ -0,0 +1,44 @@
+package com.example.codestarter.service.count;
+
+import com.example.codestarter.entity.BaseEntity;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 记录数统计策略
+ */
+public interface CountStrategy {
+
+    /**
+     * 策略对应的统计方式
+     *
+     * @return 统计方式
+     */
+    CountMode getMode();
+
+    /**
+     * 统计未删除记录数量
+     *
+     * @param entityType 实体类型
+     * @param exactCount 精确统计逻辑
+     * @return 记录数量
+     */
+    long count(Class<? extends BaseEntity> entityType, LongSupplier exactCount);
+
+    /**
+     * 未删除记录数量发生已知变化（事务提交后调用）
+     *
+     * @param entityType 实体类型
+     * @param delta      变化量
+     */
+    default void onChange(Class<? extends BaseEntity> entityType, long delta) {
+    }
+
+    /**
+     * 未删除记录数量发生无法确定的变化
+     *
+     * @param entityType 实体类型
+     */
+    default void invalidate(Class<? extends BaseEntity> entityType) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.codestarter.service.count;
+
+import com.example.codestarter.entity.BaseEntity;
+import com.example.codestarter.repository.support.EntityTableResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 估算统计策略
+ * <p>
+ * MySQL 下通过 {@code EXPLAIN SELECT ... WHERE deleted = 0} 读取优化器估算的扫描行数与过滤比例，
+ * 不访问实际数据；结果误差取决于 InnoDB 统计信息，适合展示总页数等不要求精确的场景。
+ * 其他数据库或执行计划读取失败时退化为精确统计。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EstimatedCountStrategy implements CountStrategy {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EntityTableResolver tableResolver;
+
+    private volatile Boolean mysql;
+
+    @Override
+    public CountMode getMode() {
+        return CountMode.ESTIMATED;
+    }
+
+    @Override
+    public long count(Class<? extends BaseEntity> entityType, LongSupplier exactCount) {
+        if (!isMysql()) {
+            return exactCount.getAsLong();
+        }
+        String table = tableResolver.getTableName(entityType);
+        Map<String, Object> plan;
+        try {
+            plan = jdbcTemplate.queryForMap("EXPLAIN SELECT 1 FROM " + table + " WHERE deleted = 0");
+        } catch (DataAccessException e) {
+            log.warn("读取执行计划失败，退化为精确统计，表: {}", table, e);
+            return exactCount.getAsLong();
+        }
+        if (!(plan.get("rows") instanceof Number rows)) {
+            return exactCount.getAsLong();
+        }
+        if (!(plan.get("filtered") instanceof Number filtered)) {
+            return rows.longValue();
+        }
+        return Math.round(rows.longValue() * filtered.doubleValue() / 100);
+    }
+
+    private boolean isMysql() {
+        if (mysql == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                        DatabaseMetaData::getDatabaseProductName);
+                mysql = product != null && product.toLowerCase().contains("mysql");
+            } catch (MetaDataAccessException e) {
+                log.warn("获取数据库类型失败", e);
+                mysql = false;
+            }
+        }
+        return mysql;
+    }
+}
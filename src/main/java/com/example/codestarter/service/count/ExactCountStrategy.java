@@ -0,0 +1,23 @@
+package com.example.codestarter.service.count;
+
+import com.example.codestarter.entity.BaseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 精确统计策略
+ */
+@Component
+public class ExactCountStrategy implements CountStrategy {
+
+    @Override
+    public CountMode getMode() {
+        return CountMode.EXACT;
+    }
+
+    @Override
+    public long count(Class<? extends BaseEntity> entityType, LongSupplier exactCount) {
+        return exactCount.getAsLong();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.codestarter.service.count;
+
+import com.example.codestarter.config.CountProperties;
+import com.example.codestarter.entity.BaseEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 增量维护统计策略
+ * <p>
+ * 首次统计时执行精确查询，之后由 BaseServiceImpl 在事务提交后上报新增、逻辑删除的数量进行调整。
+ * 物理删除等无法确定变化量的操作会使计数失效，绕过 Service 的写入由定期校准兜底。
+ */
+@Component
+@RequiredArgsConstructor
+public class IncrementalCountStrategy implements CountStrategy {
+
+    private final CountProperties properties;
+
+    private final Map<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public CountMode getMode() {
+        return CountMode.INCREMENTAL;
+    }
+
+    @Override
+    public long count(Class<? extends BaseEntity> entityType, LongSupplier exactCount) {
+        long now = System.nanoTime();
+        long resyncNanos = properties.getIncrementalResyncInterval().toNanos();
+        Counter current = counters.get(entityType);
+        if (current != null && now - current.loadedAt < resyncNanos) {
+            return Math.max(current.value.get(), 0L);
+        }
+        // 精确查询在 Map 之外执行，不占用哈希桶锁；并发加载时以先写入者为准
+        Counter loaded = new Counter(exactCount.getAsLong(), now);
+        Counter counter;
+        if (current == null) {
+            Counter existing = counters.putIfAbsent(entityType, loaded);
+            counter = existing != null ? existing : loaded;
+        } else {
+            counter = counters.replace(entityType, current, loaded) ? loaded
+                    : counters.getOrDefault(entityType, loaded);
+        }
+        return Math.max(counter.value.get(), 0L);
+    }
+
+    @Override
+    public void onChange(Class<? extends BaseEntity> entityType, long delta) {
+        Counter counter = counters.get(entityType);
+        if (counter != null) {
+            counter.value.addAndGet(delta);
+        }
+    }
+
+    @Override
+    public void invalidate(Class<? extends BaseEntity> entityType) {
+        counters.remove(entityType);
+    }
+
+    private static final class Counter {
+
+        private final AtomicLong value;
+
+        private final long loadedAt;
+
+        private Counter(long value, long loadedAt) {
+            this.value = new AtomicLong(value);
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.codestarter.service.deletion;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 按行数限速
+ * 每批执行前按上一批的行数计算下一批的最早开始时间，不足时休眠等待，给复制和其他事务留出余量
+ */
+class ChunkRateLimiter {
+
+    private final long nanosPerRow;
+
+    private long nextAllowed = System.nanoTime();
+
+    ChunkRateLimiter(int rowsPerSecond) {
+        this.nanosPerRow = rowsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / rowsPerSecond : 0;
+    }
+
+    /**
+     * 为即将处理的行数申请配额，必要时阻塞
+     *
+     * @param rows 行数
+     * @throws InterruptedException 等待期间线程被中断
+     */
+    void acquire(int rows) throws InterruptedException {
+        if (nanosPerRow == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long wait = nextAllowed - now;
+        while (wait > 0) {
+            LockSupport.parkNanos(wait);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("删除任务限速等待被中断");
+            }
+            wait = nextAllowed - System.nanoTime();
+        }
+        nextAllowed = Math.max(nextAllowed, now) + nanosPerRow * rows;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.codestarter.service.deletion;
+
+import com.example.codestarter.config.DeletionProperties;
+import com.example.codestarter.datasource.lock.DatabaseLock;
+import com.example.codestarter.service.BaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 定时物理删除逻辑删除超过保留天数的记录
+ * 避免已删除数据无限堆积，拖慢所有 deleted = 0 的扫描；多实例部署时通过 {@link DatabaseLock} 只由一个实例执行
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.deletion.purge", name = "enabled", havingValue = "true")
+public class DeletedRowPurgeScheduler {
+
+    static final String LOCK_NAME = "code-starter:purge-deleted";
+
+    private final List<BaseService<?, ?>> services;
+
+    private final DeletionProperties properties;
+
+    private final DatabaseLock databaseLock;
+
+    @Scheduled(cron = "${app.deletion.purge.cron:0 30 3 * * *}")
+    public void purge() {
+        if (!databaseLock.runExclusively(LOCK_NAME, this::purgeAll)) {
+            log.info("其他实例正在清理已逻辑删除数据，跳过本次执行");
+        }
+    }
+
+    /**
+     * 依次清理所有实体，单个实体失败不影响其他实体
+     */
+    private void purgeAll() {
+        Duration retention = Duration.ofDays(properties.getPurge().getRetentionDays());
+        log.info("开始清理已逻辑删除数据，保留时长: {}", retention);
+        for (BaseService<?, ?> service : services) {
+            try {
+                service.purgeDeleted(retention);
+            } catch (RuntimeException e) {
+                log.error("清理已逻辑删除数据失败，Service: {}", service.getClass().getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.codestarter.service.deletion;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+/**
+ * 后台删除任务及其进度
+ * 进度以已提交批次的 ID 数量记录，失败后从该位置继续，已提交的批次不会重复执行
+ */
+@Getter
+public class DeletionJob {
+
+    /**
+     * 任务ID
+     */
+    private final String id = UUID.randomUUID().toString();
+
+    /**
+     * 实体名称
+     */
+    private final String entityName;
+
+    /**
+     * ID 总数
+     */
+    private final int total;
+
+    /**
+     * 已提交的 ID 数量
+     */
+    private volatile int processed;
+
+    /**
+     * 实际受影响的记录数
+     */
+    private volatile long affected;
+
+    /**
+     * 任务状态
+     */
+    private volatile DeletionJobStatus status = DeletionJobStatus.PENDING;
+
+    /**
+     * 最近一次失败的原因
+     */
+    private volatile String error;
+
+    /**
+     * 提交时间
+     */
+    private final LocalDateTime createTime = LocalDateTime.now();
+
+    /**
+     * 结束时间
+     */
+    private volatile LocalDateTime finishTime;
+
+    @Getter(AccessLevel.NONE)
+    private final List<?> ids;
+
+    @Getter(AccessLevel.NONE)
+    private final ToIntFunction<List<?>> chunkAction;
+
+    @SuppressWarnings("unchecked")
+    <ID> DeletionJob(String entityName, List<ID> ids, ToIntFunction<List<ID>> chunkAction) {
+        this.entityName = entityName;
+        this.ids = List.copyOf(ids);
+        this.total = ids.size();
+        this.chunkAction = (ToIntFunction<List<?>>) (ToIntFunction<?>) chunkAction;
+    }
+
+    /**
+     * 是否已结束（完成或失败）
+     *
+     * @return 是否已结束
+     */
+    public boolean isFinished() {
+        return status == DeletionJobStatus.COMPLETED || status == DeletionJobStatus.FAILED;
+    }
+
+    List<?> nextChunk(int chunkSize) {
+        return ids.subList(processed, Math.min(processed + chunkSize, total));
+    }
+
+    int applyChunk(List<?> chunk) {
+        return chunkAction.applyAsInt(chunk);
+    }
+
+    void chunkCommitted(int size, int chunkAffected) {
+        processed += size;
+        affected += chunkAffected;
+    }
+
+    void start() {
+        status = DeletionJobStatus.RUNNING;
+        error = null;
+        finishTime = null;
+    }
+
+    void complete() {
+        status = DeletionJobStatus.COMPLETED;
+        finishTime = LocalDateTime.now();
+    }
+
+    void fail(Throwable cause) {
+        status = DeletionJobStatus.FAILED;
+        error = cause.getMessage();
+        finishTime = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.codestarter.service.deletion;
+
+import com.example.codestarter.config.DeletionProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * 分批删除执行器
+ * <p>
+ * 大批量的逻辑删除和物理清理按批执行，每批一个独立事务并按行数限速，避免长时间持有行锁和造成复制延迟。
+ * 后台任务的进度保存在内存中，失败后可通过 {@link #resume(String)} 从失败的批次继续；
+ * 应用重启后进度丢失，但逻辑删除只更新 deleted = 0 的行，重新提交同一批 ID 是幂等的。
+ */
+@Slf4j
+@Component
+public class DeletionJobManager {
+
+    private final DeletionProperties properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor;
+
+    private final Map<String, DeletionJob> jobs = new ConcurrentHashMap<>();
+
+    public DeletionJobManager(DeletionProperties properties, PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getConcurrency()),
+                new CustomizableThreadFactory("deletion-job-"));
+    }
+
+    /**
+     * 提交后台分批删除任务
+     *
+     * @param entityName  实体名称
+     * @param ids         主键ID列表
+     * @param chunkAction 单批处理逻辑，在独立事务中执行，返回受影响的记录数
+     * @param <ID>        主键类型
+     * @return 任务
+     */
+    public <ID> DeletionJob submit(String entityName, List<ID> ids, ToIntFunction<List<ID>> chunkAction) {
+        removeExpiredJobs();
+        DeletionJob job = new DeletionJob(entityName, ids, chunkAction);
+        jobs.put(job.getId(), job);
+        log.info("提交后台删除任务，任务ID: {}, 实体: {}, 数量: {}", job.getId(), entityName, job.getTotal());
+        executor.execute(() -> run(job));
+        return job;
+    }
+
+    /**
+     * 从上次失败的批次继续执行任务
+     *
+     * @param jobId 任务ID
+     * @return 任务
+     * @throws IllegalArgumentException 任务不存在
+     * @throws IllegalStateException    任务不处于失败状态
+     */
+    public DeletionJob resume(String jobId) {
+        DeletionJob job = getJob(jobId).orElseThrow(() -> new IllegalArgumentException("删除任务不存在: " + jobId));
+        synchronized (job) {
+            if (job.getStatus() != DeletionJobStatus.FAILED) {
+                throw new IllegalStateException("只能恢复失败的删除任务，当前状态: " + job.getStatus());
+            }
+            job.start();
+        }
+        log.info("恢复后台删除任务，任务ID: {}, 已处理: {}/{}", jobId, job.getProcessed(), job.getTotal());
+        executor.execute(() -> run(job));
+        return job;
+    }
+
+    /**
+     * 查询任务进度
+     *
+     * @param jobId 任务ID
+     * @return 任务
+     */
+    public Optional<DeletionJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * 同步分批清理，直到没有待清理的记录
+     *
+     * @param entityName  实体名称
+     * @param nextChunk   按批大小查询下一批待清理的 ID
+     * @param chunkAction 单批清理逻辑，返回删除的记录数
+     * @param <ID>        主键类型
+     * @return 删除的记录总数
+     */
+    public <ID> long purge(String entityName, IntFunction<List<ID>> nextChunk, ToIntFunction<List<ID>> chunkAction) {
+        int chunkSize = properties.getChunkSize();
+        ChunkRateLimiter rateLimiter = new ChunkRateLimiter(properties.getRowsPerSecond());
+        long purged = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<ID> ids = nextChunk.apply(chunkSize);
+                return ids.isEmpty() ? 0 : chunkAction.applyAsInt(ids);
+            });
+            purged += deleted;
+            // 不足一批说明已清理完；0 行则可能是并发恢复了数据，同样停止，避免空转
+            if (deleted < chunkSize) {
+                break;
+            }
+            try {
+                rateLimiter.acquire(deleted);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("清理任务被中断，实体: {}, 已删除: {}", entityName, purged);
+                break;
+            }
+        }
+        log.info("清理已逻辑删除数据完成，实体: {}, 删除数量: {}", entityName, purged);
+        return purged;
+    }
+
+    /**
+     * 在当前线程中执行任务的剩余批次
+     *
+     * @param job 任务
+     */
+    void run(DeletionJob job) {
+        int chunkSize = properties.getChunkSize();
+        ChunkRateLimiter rateLimiter = new ChunkRateLimiter(properties.getRowsPerSecond());
+        job.start();
+        try {
+            while (job.getProcessed() < job.getTotal()) {
+                List<?> chunk = job.nextChunk(chunkSize);
+                rateLimiter.acquire(chunk.size());
+                Integer affected = transactionTemplate.execute(status -> job.applyChunk(chunk));
+                job.chunkCommitted(chunk.size(), affected);
+            }
+            job.complete();
+            log.info("后台删除任务完成，任务ID: {}, 实体: {}, 受影响: {}", job.getId(), job.getEntityName(),
+                    job.getAffected());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail(e);
+            log.warn("后台删除任务被中断，任务ID: {}, 已处理: {}/{}", job.getId(), job.getProcessed(), job.getTotal());
+        } catch (RuntimeException e) {
+            job.fail(e);
+            log.error("后台删除任务失败，任务ID: {}, 已处理: {}/{}", job.getId(), job.getProcessed(), job.getTotal(), e);
+        }
+    }
+
+    private void removeExpiredJobs() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(properties.getJobRetention());
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishTime().isBefore(expiredBefore));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
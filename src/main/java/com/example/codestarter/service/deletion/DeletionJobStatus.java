@@ -0,0 +1,27 @@
+package com.example.codestarter.service.deletion;
+
+/**
+ * 后台删除任务状态
+ */
+public enum DeletionJobStatus {
+
+    /**
+     * 已提交，等待执行
+     */
+    PENDING,
+
+    /**
+     * 执行中
+     */
+    RUNNING,
+
+    /**
+     * 全部完成
+     */
+    COMPLETED,
+
+    /**
+     * 某一批执行失败，已提交的批次保持有效，可从失败处恢复
+     */
+    FAILED
+}
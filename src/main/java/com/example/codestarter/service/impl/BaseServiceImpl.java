@@ -1,16 +1,60 @@
 package com.example.codestarter.service.impl;
 
+import com.example.codestarter.cache.EntityCache;
+import com.example.codestarter.common.CursorPage;
+import com.example.codestarter.common.KeysetCursor;
+import com.example.codestarter.concurrent.RetryOnConflict;
+import com.example.codestarter.config.PersistenceProperties;
 import com.example.codestarter.entity.BaseEntity;
+import com.example.codestarter.entity.EntityVersion;
+import com.example.codestarter.exception.BusinessException;
 import com.example.codestarter.repository.BaseRepository;
+import com.example.codestarter.repository.support.JdbcBatchInsertWriter;
 import com.example.codestarter.service.BaseService;
+import com.example.codestarter.service.bulk.BulkProgress;
+import com.example.codestarter.service.count.CountMode;
+import com.example.codestarter.service.count.CountStrategies;
+import com.example.codestarter.service.deletion.DeletionJob;
+import com.example.codestarter.service.deletion.DeletionJobManager;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.SelectionQuery;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 /**
  * 基础 Service 实现类
@@ -22,9 +66,34 @@ import java.util.Optional;
 @Slf4j
 public abstract class BaseServiceImpl<T extends BaseEntity, ID> implements BaseService<T, ID> {
 
+    /**
+     * 游标分页单页最大条数
+     */
+    protected static final int MAX_CURSOR_LIMIT = 1000;
+
     @Autowired
     protected BaseRepository<T, ID> repository;
 
+    @PersistenceContext
+    protected EntityManager entityManager;
+
+    @Autowired
+    protected PersistenceProperties persistenceProperties;
+
+    @Autowired
+    protected JdbcBatchInsertWriter batchInsertWriter;
+
+    @Autowired
+    protected EntityCache entityCache;
+
+    @Autowired
+    protected CountStrategies countStrategies;
+
+    @Autowired
+    protected DeletionJobManager deletionJobManager;
+
+    private Class<T> entityClass;
+
     /**
      * 保存实体（新增或更新）
      * 
@@ -34,27 +103,161 @@ public abstract class BaseServiceImpl<T extends BaseEntity, ID> implements BaseS
     @Override
     @Transactional(rollbackFor = Exception.class)
     public T save(T entity) {
-        log.debug("保存实体: {}", entity);
+        boolean isNew = entity.getId() == null;
         T savedEntity = repository.save(entity);
+        if (isNew) {
+            afterCommit(() -> countStrategies.onChange(getEntityClass(), 1));
+        }
+        evictCache(savedEntity.getId());
+        if (entityCache.isEnabled()) {
+            // 提交后写入缓存，此时版本号已是最终值
+            afterCommit(() -> entityCache.put(savedEntity));
+        }
         log.debug("保存成功，ID: {}", savedEntity.getId());
         return savedEntity;
     }
 
+    /**
+     * 读取-修改-写入更新
+     * 
+     * @param id       主键ID
+     * @param modifier 修改逻辑
+     * @return 更新后的实体
+     */
+    @Override
+    @RetryOnConflict
+    @Transactional(rollbackFor = Exception.class)
+    public T update(ID id, Consumer<? super T> modifier) {
+        T entity = repository.findByIdAndDeleted(id)
+                .orElseThrow(() -> new BusinessException(404, "数据不存在: " + id));
+        modifier.accept(entity);
+        // 立即刷出，使版本冲突在方法内抛出
+        T savedEntity = repository.saveAndFlush(entity);
+        evictCache(id);
+        if (entityCache.isEnabled()) {
+            afterCommit(() -> entityCache.put(savedEntity));
+        }
+        log.debug("更新成功，ID: {}, 版本: {}", id, savedEntity.getVersion());
+        return savedEntity;
+    }
+
     /**
      * 批量保存实体
+     * <p>
+     * 数量超过 app.persistence.batch-size 时分批 flush，并将已写入的实体从持久化上下文中脱管：
+     * 返回的实体不再受当前事务管理，之后的修改不会自动写回，未初始化的延迟关联也无法再加载。
+     * 不超过一批时返回的实体仍处于托管状态。
      * 
      * @param entities 实体列表
-     * @return 保存后的实体列表
+     * @return 保存后的实体列表（超过一批时为脱管实体）
      */
     @Override
     @Transactional(rollbackFor = Exception.class, timeout = 30)
     public List<T> saveAll(List<T> entities) {
-        log.debug("批量保存实体，数量: {}", entities.size());
-        List<T> savedEntities = repository.saveAll(entities);
-        log.debug("批量保存成功，数量: {}", savedEntities.size());
+        long newCount = entities.stream().filter(e -> e.getId() == null).count();
+        afterCommit(() -> countStrategies.onChange(getEntityClass(), newCount));
+        int batchSize = persistenceProperties.getBatchSize();
+        if (entities.size() <= batchSize) {
+            List<T> savedEntities = repository.saveAll(entities);
+            if (log.isDebugEnabled()) {
+                log.debug("批量保存成功，数量: {}", savedEntities.size());
+            }
+            return savedEntities;
+        }
+        // 超过一批时分批 flush 并脱管已写入的实体，避免持久化上下文无限增长
+        List<T> savedEntities = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += batchSize) {
+            List<T> saved = repository.saveAll(entities.subList(from, Math.min(from + batchSize, entities.size())));
+            entityManager.flush();
+            saved.forEach(entityManager::detach);
+            savedEntities.addAll(saved);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("批量保存成功，数量: {}, 批次大小: {}", savedEntities.size(), batchSize);
+        }
         return savedEntities;
     }
 
+    /**
+     * 批量插入新实体（JDBC Batch）
+     * 
+     * @param entities 新实体列表
+     * @return 插入行数
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class, timeout = 30)
+    public int batchInsert(List<T> entities) {
+        int inserted = batchInsertWriter.insert(entityManager, entities, persistenceProperties.getBatchSize());
+        afterCommit(() -> countStrategies.onChange(getEntityClass(), inserted));
+        if (log.isDebugEnabled()) {
+            log.debug("JDBC 批量插入成功，数量: {}", inserted);
+        }
+        return inserted;
+    }
+
+    /**
+     * 流式批量插入新实体
+     * 
+     * @param entities 新实体流
+     * @return 写入进度
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BulkProgress bulkInsert(Stream<T> entities) {
+        return bulkInsert(entities, progress -> { });
+    }
+
+    /**
+     * 流式批量插入新实体，每写完一批回调一次进度
+     * 
+     * @param entities 新实体流
+     * @param listener 进度回调
+     * @return 写入进度
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BulkProgress bulkInsert(Stream<T> entities, Consumer<BulkProgress> listener) {
+        BulkProgress progress = writeInChunks(entities, listener,
+                chunk -> batchInsertWriter.insert(entityManager, chunk, persistenceProperties.getBatchSize()));
+        afterCommit(() -> countStrategies.onChange(getEntityClass(), progress.rows()));
+        log.info("流式批量插入完成，实体: {}, 数量: {}, 耗时: {}ms, 吞吐: {}/s", getEntityClass().getSimpleName(),
+                progress.rows(), progress.elapsed().toMillis(), Math.round(progress.rowsPerSecond()));
+        return progress;
+    }
+
+    /**
+     * 流式批量插入或更新
+     * 
+     * @param entities 实体流
+     * @return 写入进度
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BulkProgress bulkUpsert(Stream<T> entities) {
+        return bulkUpsert(entities, progress -> { });
+    }
+
+    /**
+     * 流式批量插入或更新，每写完一批回调一次进度
+     * 
+     * @param entities 实体流
+     * @param listener 进度回调
+     * @return 写入进度
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BulkProgress bulkUpsert(Stream<T> entities, Consumer<BulkProgress> listener) {
+        BulkProgress progress = writeInChunks(entities, listener, chunk -> {
+            evictCacheAll(chunk.stream().map(BaseEntity::getId).filter(Objects::nonNull).toList());
+            return batchInsertWriter.upsert(entityManager, chunk, persistenceProperties.getBatchSize());
+        });
+        // 无法区分插入和更新的数量，直接失效总数缓存
+        afterCommit(() -> countStrategies.invalidate(getEntityClass()));
+        log.info("流式批量插入或更新完成，实体: {}, 数量: {}, 耗时: {}ms, 吞吐: {}/s", getEntityClass().getSimpleName(),
+                progress.rows(), progress.elapsed().toMillis(), Math.round(progress.rowsPerSecond()));
+        return progress;
+    }
+
     /**
      * 根据 ID 物理删除
      * 
@@ -63,8 +266,9 @@ public abstract class BaseServiceImpl<T extends BaseEntity, ID> implements BaseS
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void deleteById(ID id) {
-        log.debug("物理删除实体，ID: {}", id);
         repository.deleteById(id);
+        evictCache(id);
+        afterCommit(() -> countStrategies.invalidate(getEntityClass()));
         log.debug("物理删除成功，ID: {}", id);
     }
 
@@ -72,13 +276,23 @@ public abstract class BaseServiceImpl<T extends BaseEntity, ID> implements BaseS
      * 批量物理删除
      * 
      * @param ids 主键ID列表
+     * @return 删除的记录数
      */
     @Override
     @Transactional(rollbackFor = Exception.class, timeout = 30)
-    public void deleteByIds(List<ID> ids) {
-        log.debug("批量物理删除实体，数量: {}", ids.size());
-        repository.deleteAllById(ids);
-        log.debug("批量物理删除成功，数量: {}", ids.size());
+    public int deleteByIds(List<ID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = repository.bulkDeleteByIds(ids, persistenceProperties.getDeleteChunkSize());
+        // 批量语句绕过了持久化上下文，脱管已加载的实体，避免后续 flush 对已删除的行执行 UPDATE
+        detachManaged(ids);
+        evictCacheAll(ids);
+        afterCommit(() -> countStrategies.invalidate(getEntityClass()));
+        if (log.isDebugEnabled()) {
+            log.debug("批量物理删除成功，请求数量: {}, 删除数量: {}", ids.size(), deleted);
+        }
+        return deleted;
     }
 
     /**
@@ -89,8 +303,9 @@ public abstract class BaseServiceImpl<T extends BaseEntity, ID> implements BaseS
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void deleteByIdLogical(ID id) {
-        log.debug("逻辑删除实体，ID: {}", id);
-        repository.logicalDeleteById(id);
+        int deleted = repository.logicalDeleteById(id);
+        evictCache(id);
+        afterCommit(() -> countStrategies.onChange(getEntityClass(), -deleted));
         log.debug("逻辑删除成功，ID: {}", id);
     }
 
@@ -102,9 +317,47 @@ public abstract class BaseServiceImpl<T extends BaseEntity, ID> implements BaseS
     @Override
     @Transactional(rollbackFor = Exception.class, timeout = 30)
     public void deleteByIdsLogical(List<ID> ids) {
-        log.debug("批量逻辑删除实体，数量: {}", ids.size());
-        repository.logicalDeleteByIds(ids);
-        log.debug("批量逻辑删除成功，数量: {}", ids.size());
+        int deleted = repository.logicalDeleteByIds(ids, persistenceProperties.getDeleteChunkSize());
+        evictCacheAll(ids);
+        afterCommit(() -> countStrategies.onChange(getEntityClass(), -deleted));
+        if (log.isDebugEnabled()) {
+            log.debug("批量逻辑删除成功，请求数量: {}, 删除数量: {}", ids.size(), deleted);
+        }
+    }
+
+    /**
+     * 后台分批逻辑删除
+     * 
+     * @param ids 主键ID列表
+     * @return 删除任务
+     */
+    @Override
+    public DeletionJob deleteByIdsLogicalInBackground(List<ID> ids) {
+        return deletionJobManager.submit(getEntityClass().getSimpleName(), ids, chunk -> {
+            int deleted = repository.logicalDeleteByIds(chunk);
+            evictCacheAll(chunk);
+            afterCommit(() -> countStrategies.onChange(getEntityClass(), -deleted));
+            return deleted;
+        });
+    }
+
+    /**
+     * 分批物理删除逻辑删除超过保留时长的记录
+     * 
+     * @param retention 保留时长
+     * @return 删除的记录数
+     */
+    @Override
+    public long purgeDeleted(Duration retention) {
+        log.debug("清理已逻辑删除实体，保留时长: {}", retention);
+        long retentionSeconds = retention.toSeconds();
+        return deletionJobManager.purge(getEntityClass().getSimpleName(),
+                chunkSize -> repository.findPurgeableIds(retentionSeconds, PageRequest.ofSize(chunkSize)),
+                ids -> {
+                    int purged = repository.purgeDeletedByIds(ids);
+                    evictCacheAll(ids);
+                    return purged;
+                });
     }
 
     /**
@@ -117,7 +370,17 @@ public abstract class BaseServiceImpl<T extends BaseEntity, ID> implements BaseS
     @Transactional(readOnly = true)
     public Optional<T> findById(ID id) {
         log.debug("根据ID查询实体: {}", id);
-        return repository.findById(id);
+        if (!isCacheable()) {
+            return repository.findById(id);
+        }
+        Optional<T> cached = entityCache.get(getEntityClass(), id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long token = entityCache.startLoad();
+        Optional<T> entity = repository.findById(id);
+        entity.ifPresent(e -> entityCache.putFromLoad(e, token));
+        return entity;
     }
 
     /**
@@ -130,7 +393,65 @@ public abstract class BaseServiceImpl<T extends BaseEntity, ID> implements BaseS
     @Transactional(readOnly = true)
     public Optional<T> findByIdAndNotDeleted(ID id) {
         log.debug("根据ID查询未删除实体: {}", id);
-        return repository.findByIdAndDeleted(id);
+        if (!isCacheable()) {
+            return repository.findByIdAndDeleted(id);
+        }
+        Optional<T> cached = entityCache.get(getEntityClass(), id);
+        if (cached.isPresent()) {
+            return cached.filter(e -> Integer.valueOf(0).equals(e.getDeleted()));
+        }
+        long token = entityCache.startLoad();
+        Optional<T> entity = repository.findByIdAndDeleted(id);
+        entity.ifPresent(e -> entityCache.putFromLoad(e, token));
+        return entity;
+    }
+
+    /**
+     * 根据 ID 集合查询未删除数据
+     * 
+     * @param ids 主键ID集合
+     * @return 实体列表
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<T> findAllByIds(Collection<ID> ids) {
+        List<ID> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        Map<Object, T> found = new HashMap<>(distinctIds.size() * 2);
+        boolean cacheable = isCacheable();
+        // 先取缓存，只查询未命中的 ID
+        List<ID> misses = cacheable ? new ArrayList<>() : distinctIds;
+        if (cacheable) {
+            for (ID id : distinctIds) {
+                Optional<T> cached = entityCache.get(getEntityClass(), id);
+                if (cached.isPresent()) {
+                    cached.filter(e -> Integer.valueOf(0).equals(e.getDeleted())).ifPresent(e -> found.put(id, e));
+                } else {
+                    misses.add(id);
+                }
+            }
+        }
+        long token = cacheable ? entityCache.startLoad() : 0L;
+        int chunkSize = persistenceProperties.getInClauseSize();
+        for (int from = 0; from < misses.size(); from += chunkSize) {
+            List<ID> chunk = misses.subList(from, Math.min(from + chunkSize, misses.size()));
+            for (T entity : repository.findAllByIdInAndDeletedFalse(chunk)) {
+                found.put(entity.getId(), entity);
+                if (cacheable) {
+                    entityCache.putFromLoad(entity, token);
+                }
+            }
+        }
+        List<T> entities = new ArrayList<>(found.size());
+        for (ID id : distinctIds) {
+            T entity = found.get(id);
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("根据ID集合查询未删除实体，请求数量: {}, 结果数量: {}", ids.size(), entities.size());
+        }
+        return entities;
     }
 
     /**
@@ -141,12 +462,76 @@ public abstract class BaseServiceImpl<T extends BaseEntity, ID> implements BaseS
     @Override
     @Transactional(readOnly = true)
     public List<T> findAll() {
-        log.debug("查询所有未删除实体");
         List<T> entities = repository.findAllByDeletedOrderByCreateTimeDesc();
-        log.debug("查询结果数量: {}", entities.size());
+        if (log.isDebugEnabled()) {
+            log.debug("查询所有未删除实体，数量: {}", entities.size());
+        }
         return entities;
     }
 
+    /**
+     * 流式查询所有未删除数据，按创建时间倒序
+     * 
+     * @return 实体流
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<T> streamAll() {
+        log.debug("流式查询所有未删除实体");
+        // 读取下一条时才脱管上一条，调用方处理当前实体时它仍受管；
+        // 持久化上下文不随读取行数增长，也不影响调用方事务中的其他实体
+        AtomicReference<T> previous = new AtomicReference<>();
+        return openNotDeletedStream()
+                .map(entity -> {
+                    detachIfPresent(previous.getAndSet(entity));
+                    return entity;
+                })
+                .onClose(() -> detachIfPresent(previous.getAndSet(null)));
+    }
+
+    private void detachIfPresent(T entity) {
+        if (entity != null) {
+            entityManager.detach(entity);
+        }
+    }
+
+    /**
+     * 打开未删除数据的只读流，按创建时间倒序
+     * fetch size 只作用于本语句，见 {@link PersistenceProperties#getStreamFetchSize()}
+     */
+    private Stream<T> openNotDeletedStream() {
+        String entityName = entityManager.getMetamodel().entity(getEntityClass()).getName();
+        return entityManager.createQuery("SELECT e FROM " + entityName
+                        + " e WHERE e.deleted = 0 ORDER BY e.createTime DESC", getEntityClass())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, persistenceProperties.getStreamFetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .getResultStream();
+    }
+
+    /**
+     * 逐条处理所有未删除数据
+     * 
+     * @param action 处理逻辑
+     * @return 处理条数
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachNotDeleted(Consumer<? super T> action) {
+        long count = 0;
+        try (Stream<T> stream = openNotDeletedStream()) {
+            for (T entity : (Iterable<T>) stream::iterator) {
+                action.accept(entity);
+                entityManager.detach(entity);
+                count++;
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("逐条处理所有未删除实体完成，数量: {}", count);
+        }
+        return count;
+    }
+
     /**
      * 分页查询未删除数据
      * 
@@ -156,12 +541,197 @@ public abstract class BaseServiceImpl<T extends BaseEntity, ID> implements BaseS
     @Override
     @Transactional(readOnly = true)
     public Page<T> findAllByPage(Pageable pageable) {
-        log.debug("分页查询未删除实体，页码: {}, 大小: {}", pageable.getPageNumber(), pageable.getPageSize());
-        Page<T> page = repository.findAllByDeletedFalse(pageable);
-        log.debug("分页查询结果，总数: {}, 当前页数量: {}", page.getTotalElements(), page.getNumberOfElements());
+        return findAllByPage(pageable, countStrategies.getDefaultMode());
+    }
+
+    /**
+     * 分页查询未删除数据，按指定方式统计总数
+     * 
+     * @param pageable  分页参数
+     * @param countMode 总数统计方式
+     * @return 分页结果
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<T> findAllByPage(Pageable pageable, CountMode countMode) {
+        CountMode mode = countMode == null ? countStrategies.getDefaultMode() : countMode;
+        Page<T> page;
+        if (mode == CountMode.EXACT) {
+            page = repository.findAllByDeletedFalse(pageable);
+        } else {
+            List<T> content = repository.findSliceByDeletedFalse(pageable).getContent();
+            // 首页不满或末页时无需统计总数
+            page = PageableExecutionUtils.getPage(content, pageable, () -> countByStrategy(mode));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("分页查询未删除实体，页码: {}, 大小: {}, 统计方式: {}, 总数: {}, 当前页数量: {}",
+                    pageable.getPageNumber(), pageable.getPageSize(), mode, page.getTotalElements(),
+                    page.getNumberOfElements());
+        }
         return page;
     }
 
+    /**
+     * 分页查询未删除数据（不统计总数）
+     * 
+     * @param pageable 分页参数
+     * @return 分片结果
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<T> findSliceByPage(Pageable pageable) {
+        Slice<T> slice = repository.findSliceByDeletedFalse(pageable);
+        if (log.isDebugEnabled()) {
+            log.debug("分片查询未删除实体，页码: {}, 大小: {}, 当前页数量: {}, 是否有下一页: {}",
+                    pageable.getPageNumber(), pageable.getPageSize(), slice.getNumberOfElements(), slice.hasNext());
+        }
+        return slice;
+    }
+
+    /**
+     * 查询所有未删除数据并投影为指定类型
+     * 
+     * @param type 投影类型
+     * @param <P>  投影类型
+     * @return 投影列表
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public <P> List<P> findAll(Class<P> type) {
+        log.debug("投影查询所有未删除实体，投影类型: {}", type.getSimpleName());
+        return repository.findByDeletedOrderByCreateTimeDescIdDesc(0, type);
+    }
+
+    /**
+     * 根据 ID 查询未删除数据并投影为指定类型
+     * 
+     * @param id   主键ID
+     * @param type 投影类型
+     * @param <P>  投影类型
+     * @return 投影结果
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public <P> Optional<P> findByIdAndNotDeleted(ID id, Class<P> type) {
+        log.debug("根据ID投影查询未删除实体: {}, 投影类型: {}", id, type.getSimpleName());
+        return repository.findByIdAndDeleted(id, 0, type);
+    }
+
+    /**
+     * 根据 ID 查询未删除数据的版本号和更新时间
+     * 
+     * @param id 主键ID
+     * @return 版本信息
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EntityVersion> findVersionById(ID id) {
+        if (isCacheable()) {
+            Optional<T> cached = entityCache.get(getEntityClass(), id);
+            if (cached.isPresent()) {
+                return cached.filter(e -> Integer.valueOf(0).equals(e.getDeleted())).map(EntityVersion::of);
+            }
+        }
+        return repository.findByIdAndDeleted(id, 0, EntityVersion.class);
+    }
+
+    /**
+     * 分页查询未删除数据并投影为指定类型
+     * 
+     * @param pageable 分页参数
+     * @param type     投影类型
+     * @param <P>      投影类型
+     * @return 分页结果
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public <P> Page<P> findAllByPageAs(Pageable pageable, Class<P> type) {
+        if (log.isDebugEnabled()) {
+            log.debug("分页投影查询未删除实体，页码: {}, 大小: {}, 投影类型: {}",
+                    pageable.getPageNumber(), pageable.getPageSize(), type.getSimpleName());
+        }
+        return repository.findAllByDeletedFalse(pageable, type);
+    }
+
+    /**
+     * 分页查询未删除数据并投影为指定类型（不统计总数）
+     * 
+     * @param pageable 分页参数
+     * @param type     投影类型
+     * @param <P>      投影类型
+     * @return 分片结果
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public <P> Slice<P> findSliceByPage(Pageable pageable, Class<P> type) {
+        if (log.isDebugEnabled()) {
+            log.debug("分片投影查询未删除实体，页码: {}, 大小: {}, 投影类型: {}",
+                    pageable.getPageNumber(), pageable.getPageSize(), type.getSimpleName());
+        }
+        return repository.findSliceByDeletedFalse(pageable, type);
+    }
+
+    /**
+     * 分页查询未删除数据（不统计总数），通过 StatelessSession 加载
+     * 
+     * @param pageable 分页参数
+     * @return 分片结果
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<T> findSliceUnmanaged(Pageable pageable) {
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort()
+                : Sort.by(Sort.Direction.DESC, "createTime", "id");
+        String entityName = entityManager.getMetamodel().entity(getEntityClass()).getName();
+        String hql = QueryUtils.applySorting("SELECT e FROM " + entityName + " e WHERE e.deleted = 0", sort, "e");
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        // 复用当前事务的连接，与事务内的其他查询保持一致
+        try (StatelessSession statelessSession = session.getFactory().withStatelessOptions()
+                .connection(session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection())
+                .openStatelessSession()) {
+            SelectionQuery<T> query = statelessSession.createSelectionQuery(hql, getEntityClass());
+            if (pageable.isUnpaged()) {
+                return new SliceImpl<>(query.getResultList(), pageable, false);
+            }
+            // 多查一条用于判断是否存在下一页
+            List<T> rows = query.setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize() + 1)
+                    .getResultList();
+            boolean hasNext = rows.size() > pageable.getPageSize();
+            List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+            if (log.isDebugEnabled()) {
+                log.debug("无状态分片查询未删除实体，页码: {}, 大小: {}, 当前页数量: {}, 是否有下一页: {}",
+                        pageable.getPageNumber(), pageable.getPageSize(), content.size(), hasNext);
+            }
+            return new SliceImpl<>(content, pageable, hasNext);
+        }
+    }
+
+    /**
+     * 游标分页查询未删除数据，按创建时间倒序
+     * 
+     * @param cursor 上一页返回的游标，为空表示第一页
+     * @param limit  每页条数
+     * @return 游标分页结果
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<T> findAfter(String cursor, int limit) {
+        if (limit < 1 || limit > MAX_CURSOR_LIMIT) {
+            throw new IllegalArgumentException("每页条数必须在 1 到 " + MAX_CURSOR_LIMIT + " 之间");
+        }
+        // 多查一条用于判断是否存在下一页，避免 COUNT 查询
+        List<T> rows = repository.findAfter(KeysetCursor.decode(cursor), limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<T> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? KeysetCursor.of(content.get(limit - 1)).encode() : null;
+        if (log.isDebugEnabled()) {
+            log.debug("游标分页查询未删除实体，游标: {}, 大小: {}, 当前页数量: {}, 是否有下一页: {}",
+                    cursor, limit, content.size(), hasNext);
+        }
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
     /**
      * 检查指定 ID 的记录是否存在
      * 
@@ -171,9 +741,10 @@ public abstract class BaseServiceImpl<T extends BaseEntity, ID> implements BaseS
     @Override
     @Transactional(readOnly = true)
     public boolean existsById(ID id) {
-        log.debug("检查实体是否存在，ID: {}", id);
         boolean exists = repository.existsById(id);
-        log.debug("实体存在性检查结果: {}", exists);
+        if (log.isDebugEnabled()) {
+            log.debug("检查实体是否存在，ID: {}, 结果: {}", id, exists);
+        }
         return exists;
     }
 
@@ -186,9 +757,10 @@ public abstract class BaseServiceImpl<T extends BaseEntity, ID> implements BaseS
     @Override
     @Transactional(readOnly = true)
     public boolean existsByIdAndNotDeleted(ID id) {
-        log.debug("检查未删除实体是否存在，ID: {}", id);
         boolean exists = repository.existsByIdAndDeletedFalse(id);
-        log.debug("未删除实体存在性检查结果: {}", exists);
+        if (log.isDebugEnabled()) {
+            log.debug("检查未删除实体是否存在，ID: {}, 结果: {}", id, exists);
+        }
         return exists;
     }
 
@@ -200,9 +772,10 @@ public abstract class BaseServiceImpl<T extends BaseEntity, ID> implements BaseS
     @Override
     @Transactional(readOnly = true)
     public long count() {
-        log.debug("统计所有实体数量");
         long count = repository.count();
-        log.debug("所有实体数量: {}", count);
+        if (log.isDebugEnabled()) {
+            log.debug("统计所有实体数量: {}", count);
+        }
         return count;
     }
 
@@ -214,9 +787,154 @@ public abstract class BaseServiceImpl<T extends BaseEntity, ID> implements BaseS
     @Override
     @Transactional(readOnly = true)
     public long countNotDeleted() {
-        log.debug("统计未删除实体数量");
-        long count = repository.countByDeletedFalse();
-        log.debug("未删除实体数量: {}", count);
+        return countByStrategy(countStrategies.getDefaultMode());
+    }
+
+    /**
+     * 按指定方式统计未删除记录数量
+     * 
+     * @param countMode 统计方式
+     * @return 记录数量
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long countNotDeleted(CountMode countMode) {
+        return countByStrategy(countMode);
+    }
+
+    /**
+     * 按统计策略计数，供类内调用，避免经由 this 调用公开方法绕过代理
+     */
+    private long countByStrategy(CountMode countMode) {
+        long count = countStrategies.count(countMode, getEntityClass(), repository::countByDeletedFalse);
+        if (log.isDebugEnabled()) {
+            log.debug("统计未删除实体数量，统计方式: {}, 数量: {}", countMode, count);
+        }
         return count;
     }
-}
\ No newline at end of file
+
+    /**
+     * 获取实体类型
+     * 
+     * @return 实体类型
+     */
+    @SuppressWarnings("unchecked")
+    protected Class<T> getEntityClass() {
+        if (entityClass == null) {
+            Class<?>[] arguments = GenericTypeResolver.resolveTypeArguments(
+                    ClassUtils.getUserClass(getClass()), BaseServiceImpl.class);
+            if (arguments == null || arguments[0] == null) {
+                throw new IllegalStateException("无法解析实体类型: " + getClass().getName());
+            }
+            entityClass = (Class<T>) arguments[0];
+        }
+        return entityClass;
+    }
+
+    /**
+     * 按批大小消费实体流并逐批写入
+     * 
+     * @param entities 实体流，写入完成后关闭
+     * @param listener 进度回调
+     * @param writer   单批写入逻辑
+     * @return 写入进度
+     */
+    private BulkProgress writeInChunks(Stream<T> entities, Consumer<BulkProgress> listener,
+                                       ToIntFunction<List<T>> writer) {
+        int batchSize = persistenceProperties.getBatchSize();
+        long start = System.nanoTime();
+        long rows = 0;
+        int chunks = 0;
+        List<T> chunk = new ArrayList<>(batchSize);
+        try (entities) {
+            Iterator<T> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() < batchSize && iterator.hasNext()) {
+                    continue;
+                }
+                rows += writer.applyAsInt(chunk);
+                chunks++;
+                chunk.clear();
+                BulkProgress progress = new BulkProgress(rows, chunks, Duration.ofNanos(System.nanoTime() - start));
+                listener.accept(progress);
+                if (log.isDebugEnabled()) {
+                    log.debug("批量写入进度，数量: {}, 批次: {}, 吞吐: {}/s",
+                            rows, chunks, Math.round(progress.rowsPerSecond()));
+                }
+            }
+        }
+        return new BulkProgress(rows, chunks, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * 从持久化上下文中脱管指定 ID 的实体（如果已加载）
+     * 
+     * @param ids 主键ID列表
+     */
+    protected void detachManaged(List<ID> ids) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(getEntityClass());
+        org.hibernate.engine.spi.PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+        for (ID id : ids) {
+            Object managed = persistenceContext.getEntity(session.generateEntityKey(id, persister));
+            if (managed != null) {
+                entityManager.detach(managed);
+            }
+        }
+    }
+
+    /**
+     * 当前是否可以使用实体缓存
+     * 仅在只读事务中使用，读写事务中需要返回受管实体以支持脏检查，且可能读到未提交的数据
+     * 
+     * @return 是否可以使用缓存
+     */
+    protected boolean isCacheable() {
+        return entityCache.isEnabled() && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * 失效缓存，并在事务提交后再次失效，覆盖提交前被并发读取回填的旧数据
+     * 
+     * @param id 主键ID
+     */
+    protected void evictCache(Object id) {
+        if (!entityCache.isEnabled() || id == null) {
+            return;
+        }
+        entityCache.evict(getEntityClass(), id);
+        afterCommit(() -> entityCache.evict(getEntityClass(), id));
+    }
+
+    /**
+     * 批量失效缓存
+     * 
+     * @param ids 主键ID列表
+     */
+    protected void evictCacheAll(Collection<?> ids) {
+        if (!entityCache.isEnabled()) {
+            return;
+        }
+        entityCache.evictAll(getEntityClass(), ids);
+        afterCommit(() -> entityCache.evictAll(getEntityClass(), ids));
+    }
+
+    /**
+     * 在当前事务提交后执行，无事务时立即执行
+     * 
+     * @param action 执行逻辑
+     */
+    protected void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
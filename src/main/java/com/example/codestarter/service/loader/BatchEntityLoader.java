@@ -0,0 +1,176 @@
+package com.example.codestarter.service.loader;
+
+import com.example.codestarter.entity.BaseEntity;
+import com.example.codestarter.service.BaseService;
+import com.example.codestarter.service.async.AsyncBaseService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 主键查询合并加载器（DataLoader 风格）
+ * <p>
+ * 在时间窗口内收集并发的 {@code findByIdAndNotDeleted} 查询，合并为一条 WHERE id IN (...) AND deleted = 0 查询；
+ * 同一 ID 已有查询在进行时直接共享其结果（single-flight）。每个调用方拿到的是各自的实体副本，互不影响。
+ * <p>
+ * 查询在独立的只读事务中执行，读不到调用方事务中尚未提交的修改，应在事务外使用。
+ * 通过 {@link BatchLoaders#of(BaseService)} 获取。
+ *
+ * @param <T>  实体类型
+ * @param <ID> 主键类型
+ */
+public class BatchEntityLoader<T extends BaseEntity, ID> {
+
+    private final BaseService<T, ID> service;
+
+    private final AsyncBaseService<T, ID> asyncService;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final boolean enabled;
+
+    private final long windowNanos;
+
+    private final int maxBatchSize;
+
+    private final DistributionSummary batchSize;
+
+    private final Timer waitTime;
+
+    private final Counter deduplicated;
+
+    private final Map<ID, CompletableFuture<Optional<T>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+
+    private Map<ID, CompletableFuture<Optional<T>>> pending = new LinkedHashMap<>();
+
+    private boolean scheduled;
+
+    BatchEntityLoader(BaseService<T, ID> service, AsyncBaseService<T, ID> asyncService,
+                      ScheduledExecutorService scheduler, boolean enabled, Duration window, int maxBatchSize,
+                      DistributionSummary batchSize, Timer waitTime, Counter deduplicated) {
+        this.service = service;
+        this.asyncService = asyncService;
+        this.scheduler = scheduler;
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchSize = batchSize;
+        this.waitTime = waitTime;
+        this.deduplicated = deduplicated;
+    }
+
+    /**
+     * 根据 ID 查询未删除数据，阻塞直到所在批次完成
+     *
+     * @param id 主键ID
+     * @return 实体对象
+     */
+    public Optional<T> findByIdAndNotDeleted(ID id) {
+        if (!enabled) {
+            return service.findByIdAndNotDeleted(id);
+        }
+        try {
+            return load(id).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 根据 ID 异步查询未删除数据
+     *
+     * @param id 主键ID
+     * @return 实体对象
+     */
+    public CompletableFuture<Optional<T>> load(ID id) {
+        if (!enabled) {
+            return asyncService.findByIdAndNotDeleted(id);
+        }
+        long start = System.nanoTime();
+        CompletableFuture<Optional<T>> future;
+        Map<ID, CompletableFuture<Optional<T>>> full = null;
+        synchronized (lock) {
+            future = inFlight.get(id);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                inFlight.put(id, future);
+                pending.put(id, future);
+                if (pending.size() >= maxBatchSize) {
+                    full = pending;
+                    pending = new LinkedHashMap<>();
+                } else if (!scheduled) {
+                    scheduled = true;
+                    scheduler.schedule(this::dispatchPending, windowNanos, TimeUnit.NANOSECONDS);
+                }
+            } else {
+                deduplicated.increment();
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return future.handle((entity, error) -> {
+            waitTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (error != null) {
+                throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+            }
+            return entity.map(this::copy);
+        });
+    }
+
+    private void dispatchPending() {
+        Map<ID, CompletableFuture<Optional<T>>> batch;
+        synchronized (lock) {
+            scheduled = false;
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(Map<ID, CompletableFuture<Optional<T>>> batch) {
+        batchSize.record(batch.size());
+        asyncService.findAllByIds(List.copyOf(batch.keySet())).whenComplete((entities, error) -> {
+            Map<Object, T> found = new HashMap<>();
+            if (entities != null) {
+                entities.forEach(entity -> found.put(entity.getId(), entity));
+            }
+            batch.forEach((id, future) -> {
+                inFlight.remove(id, future);
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(Optional.ofNullable(found.get(id)));
+                }
+            });
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private T copy(T source) {
+        T target = (T) BeanUtils.instantiateClass(ClassUtils.getUserClass(source));
+        BeanUtils.copyProperties(source, target);
+        return target;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.codestarter.service.loader;
+
+import com.example.codestarter.config.BatchLoaderProperties;
+import com.example.codestarter.entity.BaseEntity;
+import com.example.codestarter.service.BaseService;
+import com.example.codestarter.service.async.AsyncServices;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * 主键查询合并加载器工厂
+ * <p>
+ * 每个 Service 共享一个 {@link BatchEntityLoader}，指标按实体打标签：
+ * <ul>
+ *     <li>{@value #BATCH_SIZE_NAME}：每批合并的 ID 数量</li>
+ *     <li>{@value #WAIT_NAME}：单个查询从提交到拿到结果的耗时（窗口等待 + 查询）</li>
+ *     <li>{@value #DEDUPLICATED_NAME}：与进行中的查询合并的次数</li>
+ * </ul>
+ * 批量查询通过 {@link AsyncServices} 的有界执行器执行。
+ */
+@Component
+public class BatchLoaders {
+
+    public static final String BATCH_SIZE_NAME = "app.batch-loader.batch.size";
+
+    public static final String WAIT_NAME = "app.batch-loader.wait";
+
+    public static final String DEDUPLICATED_NAME = "app.batch-loader.deduplicated";
+
+    private final BatchLoaderProperties properties;
+
+    private final AsyncServices asyncServices;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<BaseService<?, ?>, BatchEntityLoader<?, ?>> loaders = new ConcurrentHashMap<>();
+
+    public BatchLoaders(BatchLoaderProperties properties, AsyncServices asyncServices, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.asyncServices = asyncServices;
+        this.meterRegistry = meterRegistry;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("batch-loader-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    /**
+     * 获取 Service 对应的加载器
+     *
+     * @param service Spring 管理的 Service（代理对象）
+     * @param <T>     实体类型
+     * @param <ID>    主键类型
+     * @return 加载器
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends BaseEntity, ID> BatchEntityLoader<T, ID> of(BaseService<T, ID> service) {
+        return (BatchEntityLoader<T, ID>) loaders.computeIfAbsent(service, s -> create(service));
+    }
+
+    private <T extends BaseEntity, ID> BatchEntityLoader<T, ID> create(BaseService<T, ID> service) {
+        String entity = entityName(service);
+        DistributionSummary batchSize = DistributionSummary.builder(BATCH_SIZE_NAME)
+                .description("合并查询每批的 ID 数量")
+                .baseUnit("ids")
+                .tag("entity", entity)
+                .register(meterRegistry);
+        Timer waitTime = Timer.builder(WAIT_NAME)
+                .description("合并查询的等待时间")
+                .tag("entity", entity)
+                .register(meterRegistry);
+        Counter deduplicated = Counter.builder(DEDUPLICATED_NAME)
+                .description("与进行中的查询合并的次数")
+                .tag("entity", entity)
+                .register(meterRegistry);
+        return new BatchEntityLoader<>(service, asyncServices.of(service), scheduler, properties.isEnabled(),
+                properties.getWindow(), properties.getMaxBatchSize(), batchSize, waitTime, deduplicated);
+    }
+
+    private String entityName(BaseService<?, ?> service) {
+        Class<?>[] arguments = GenericTypeResolver.resolveTypeArguments(AopUtils.getTargetClass(service),
+                BaseService.class);
+        return arguments == null || arguments[0] == null ? AopUtils.getTargetClass(service).getSimpleName()
+                : arguments[0].getSimpleName();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.codestarter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * native image 冒烟测试：以 H2 内存库启动 target/code-starter，检查 /hello 与 /api/test/* 接口
+ * <p>
+ * 由 mvn -Pnative,native-smoke verify 在构建含 H2 的镜像后执行，其他情况跳过；输出写入 target/native-smoke.log。
+ * 启动到首个请求完成的耗时需在预算内，可通过 -Dnative.startup-budget-ms 调整
+ */
+@Slf4j
+class NativeImageSmokeIntegrationTest {
+
+    private static final Path IMAGE = Path.of("target", "code-starter");
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Duration STARTUP_BUDGET = Duration.ofMillis(Long.getLong("native.startup-budget-ms", 2000));
+
+    private static final HttpClient CLIENT = HttpClient.newHttpClient();
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static Process process;
+
+    private static String baseUrl;
+
+    private static Duration startup;
+
+    @BeforeAll
+    static void start() throws Exception {
+        assumeTrue(Boolean.getBoolean("native.smoke"), "未启用 native-smoke profile");
+        assumeTrue(Files.isExecutable(IMAGE), "未找到 native image: " + IMAGE);
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        baseUrl = "http://localhost:" + port + "/api";
+        long start = System.nanoTime();
+        process = new ProcessBuilder(List.of(IMAGE.toAbsolutePath().toString(),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:native_smoke;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop"))
+                .redirectErrorStream(true)
+                .redirectOutput(Path.of("target", "native-smoke.log").toFile())
+                .start();
+        awaitFirstResponse();
+        startup = Duration.ofNanos(System.nanoTime() - start);
+        log.info("native image 启动到首个请求完成: {} ms", startup.toMillis());
+    }
+
+    @AfterAll
+    static void stop() {
+        if (process != null) {
+            process.destroy();
+        }
+    }
+
+    @Test
+    void testStartupWithinBudget() {
+        assertTrue(startup.compareTo(STARTUP_BUDGET) <= 0,
+                "启动耗时 " + startup.toMillis() + " ms 超过预算 " + STARTUP_BUDGET.toMillis() + " ms");
+    }
+
+    @Test
+    void testHello() throws Exception {
+        JsonNode body = get("/hello?name=native");
+        assertEquals(200, body.get("code").asInt());
+        assertEquals("Hello, native!", body.get("data").asText());
+    }
+
+    @Test
+    void testSuccess() throws Exception {
+        JsonNode body = get("/api/test/success");
+        assertEquals(200, body.get("code").asInt());
+        assertEquals("操作成功", body.get("message").asText());
+    }
+
+    @Test
+    void testSystemException() throws Exception {
+        JsonNode body = get("/api/test/exception");
+        assertEquals(500, body.get("code").asInt());
+        assertTrue(body.get("message").asText().contains("系统异常"));
+    }
+
+    @Test
+    void testBusinessException() throws Exception {
+        JsonNode body = get("/api/test/business-exception");
+        assertEquals(500, body.get("code").asInt());
+        assertEquals("这是一个业务异常", body.get("message").asText());
+    }
+
+    @Test
+    void testIllegalArgument() throws Exception {
+        JsonNode body = get("/api/test/illegal-argument");
+        assertEquals(400, body.get("code").asInt());
+        assertTrue(body.get("message").asText().contains("参数不合法"));
+    }
+
+    private static JsonNode get(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = CLIENT.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return MAPPER.readTree(response.body());
+    }
+
+    private static void awaitFirstResponse() throws InterruptedException, IOException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (true) {
+            assertTrue(process.isAlive(), "native image 已退出，见 target/native-smoke.log");
+            try {
+                get("/hello");
+                return;
+            } catch (ConnectException e) {
+                if (System.nanoTime() > deadline) {
+                    fail("native image 未在 " + STARTUP_TIMEOUT.toSeconds() + " 秒内启动");
+                }
+                Thread.sleep(20);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.codestarter.cache;
+
+import com.example.codestarter.entity.SampleEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CaffeineEntityCache单元测试
+ */
+class CaffeineEntityCacheTest {
+
+    private CaffeineEntityCache entityCache;
+
+    @BeforeEach
+    void setUp() {
+        entityCache = new CaffeineEntityCache(100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testPutAndGetReturnsCopy() {
+        entityCache.put(sample(1L, 1, "a"));
+
+        SampleEntity cached = entityCache.get(SampleEntity.class, 1L).orElseThrow();
+        cached.setName("changed");
+
+        assertEquals("a", entityCache.get(SampleEntity.class, 1L).orElseThrow().getName());
+    }
+
+    @Test
+    void testLowerVersionDoesNotOverwrite() {
+        entityCache.put(sample(1L, 3, "v3"));
+        entityCache.put(sample(1L, 2, "v2"));
+
+        assertEquals("v3", entityCache.get(SampleEntity.class, 1L).orElseThrow().getName());
+    }
+
+    @Test
+    void testPutFromLoadSkippedAfterEviction() {
+        long token = entityCache.startLoad();
+        entityCache.evict(SampleEntity.class, 1L);
+
+        entityCache.putFromLoad(sample(1L, 1, "stale"), token);
+
+        assertTrue(entityCache.get(SampleEntity.class, 1L).isEmpty());
+    }
+
+    @Test
+    void testPutFromLoadAfterEviction() {
+        entityCache.evict(SampleEntity.class, 1L);
+        long token = entityCache.startLoad();
+
+        entityCache.putFromLoad(sample(1L, 1, "fresh"), token);
+
+        assertEquals("fresh", entityCache.get(SampleEntity.class, 1L).orElseThrow().getName());
+    }
+
+    private static SampleEntity sample(Long id, int version, String name) {
+        SampleEntity entity = new SampleEntity(name);
+        entity.setId(id);
+        entity.setVersion(version);
+        return entity;
+    }
+}
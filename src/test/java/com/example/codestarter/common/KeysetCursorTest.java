@@ -0,0 +1,34 @@
+package com.example.codestarter.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KeysetCursor单元测试
+ */
+class KeysetCursorTest {
+
+    @Test
+    void testEncodeAndDecode() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 123456000), 42L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void testDecodeBlank() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(""));
+    }
+
+    @Test
+    void testDecodeInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("!!!"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.codestarter.common.json;
+
+import com.example.codestarter.common.Result;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResponseJsonModule测试
+ */
+class ResponseJsonModuleTest {
+
+    private final ObjectMapper objectMapper = new Jackson2ObjectMapperBuilder()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(new ResponseJsonModule())
+            .build();
+
+    private final ObjectMapper beanMapper = new Jackson2ObjectMapperBuilder()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void testResultMatchesBeanSerialization() throws Exception {
+        Result<Map<String, List<Integer>>> result = Result.success(Map.of("ids", List.of(1, 2)));
+        Result<Object> error = Result.error(500, "失败");
+
+        assertEquals(beanMapper.writeValueAsString(result), objectMapper.writeValueAsString(result));
+        assertEquals(beanMapper.writeValueAsString(error), objectMapper.writeValueAsString(error));
+    }
+
+    @Test
+    void testNullFieldsFollowInclusion() throws Exception {
+        ObjectMapper alwaysMapper = new Jackson2ObjectMapperBuilder()
+                .modulesToInstall(new ResponseJsonModule())
+                .build();
+
+        assertFalse(objectMapper.readTree(objectMapper.writeValueAsString(Result.success())).has("data"));
+        assertTrue(alwaysMapper.readTree(alwaysMapper.writeValueAsString(Result.success())).get("data").isNull());
+    }
+
+    @Test
+    void testResultFactoriesReturnFreshInstances() throws Exception {
+        Result<Object> result = Result.success();
+        result.setData("x");
+        result.setMessage("已修改");
+
+        assertNotSame(result, Result.success());
+        assertNull(Result.success().getData());
+        assertEquals("操作成功", Result.success().getMessage());
+        JsonNode node = objectMapper.readTree(objectMapper.writeValueAsString(result));
+        assertEquals("x", node.get("data").asText());
+        assertEquals("已修改", node.get("message").asText());
+    }
+
+    @Test
+    void testLocalDateTimeMatchesIsoSerialization() throws Exception {
+        List<LocalDateTime> times = List.of(
+                LocalDateTime.of(2024, 3, 5, 7, 8, 9),
+                LocalDateTime.of(2024, 3, 5, 7, 8, 0),
+                LocalDateTime.of(2024, 3, 5, 7, 8, 9, 123_456_000),
+                LocalDateTime.of(2024, 3, 5, 7, 8, 9, 100_000_000),
+                LocalDateTime.of(2024, 3, 5, 7, 8, 9, 1),
+                LocalDateTime.of(999, 12, 31, 23, 59, 59, 999_999_999),
+                LocalDateTime.of(10000, 1, 1, 0, 0),
+                LocalDateTime.of(-1, 1, 1, 0, 0));
+
+        for (LocalDateTime time : times) {
+            assertEquals(beanMapper.writeValueAsString(time), objectMapper.writeValueAsString(time));
+        }
+        assertEquals("\"2024-03-05T07:08:09.123456\"", objectMapper.writeValueAsString(times.get(2)));
+        ObjectMapper timestampMapper = new Jackson2ObjectMapperBuilder()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new ResponseJsonModule())
+                .build();
+        assertEquals("[2024,3,5,7,8,9,123456000]", timestampMapper.writeValueAsString(times.get(2)));
+    }
+
+    @Test
+    void testLocalDateTimeDeserializationIsLenient() throws Exception {
+        LocalDateTime time = LocalDateTime.of(2024, 3, 5, 7, 8, 9, 123_456_000);
+
+        assertEquals(time, objectMapper.readValue(objectMapper.writeValueAsString(time), LocalDateTime.class));
+        assertEquals(time, objectMapper.readValue("\"2024-03-05T07:08:09.123456\"", LocalDateTime.class));
+        assertEquals(time.withNano(0), objectMapper.readValue("\"2024-03-05 07:08:09\"", LocalDateTime.class));
+        assertEquals(time, objectMapper.readValue("\"2024-03-05 07:08:09.123456\"", LocalDateTime.class));
+        assertEquals(time.withNano(0), objectMapper.readValue("[2024,3,5,7,8,9]", LocalDateTime.class));
+        assertThrows(JsonProcessingException.class,
+                () -> objectMapper.readValue("\"2024-03-05 7:8:9\"", LocalDateTime.class));
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.codestarter.concurrent;
+
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.exception.BusinessException;
+import com.example.codestarter.service.SampleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ConcurrencyLimitAspect单元测试
+ */
+class ConcurrencyLimitAspectTest {
+
+    private ConcurrencyLimitAspect aspect;
+
+    private SampleService target;
+
+    private SampleService proxy;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new ConcurrencyLimitAspect(1, Duration.ofMillis(100));
+        target = mock(SampleService.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    void testReleasesPermit() {
+        proxy.findById(1L);
+        proxy.findById(2L);
+
+        assertEquals(1, aspect.availablePermits());
+    }
+
+    @Test
+    void testNestedCallDoesNotAcquireAgain() {
+        when(target.saveAll(any())).thenAnswer(invocation -> {
+            proxy.findById(1L);
+            return List.of();
+        });
+
+        assertDoesNotThrow(() -> proxy.saveAll(List.of(new SampleEntity("a"))));
+        assertEquals(1, aspect.availablePermits());
+    }
+
+    @Test
+    void testRejectsWhenSaturated() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(target.countNotDeleted()).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 0L;
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> holder = executor.submit(() -> proxy.countNotDeleted());
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            BusinessException exception = assertThrows(BusinessException.class, () -> proxy.findById(1L));
+            assertEquals(503, exception.getCode());
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testResize() {
+        aspect.resize(3);
+        assertEquals(3, aspect.getMaxConcurrency());
+        assertEquals(3, aspect.availablePermits());
+
+        when(target.countNotDeleted()).thenAnswer(invocation -> {
+            aspect.resize(1);
+            return (long) aspect.availablePermits();
+        });
+        assertEquals(0L, proxy.countNotDeleted());
+        assertEquals(1, aspect.availablePermits());
+        assertEquals(1, aspect.getMaxConcurrency());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.codestarter.concurrent;
+
+import com.example.codestarter.config.OptimisticLockProperties;
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.service.SampleService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * OptimisticLockRetryAspect单元测试
+ */
+class OptimisticLockRetryAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OptimisticLockRetryAspect aspect;
+
+    private SampleService target;
+
+    private SampleService proxy;
+
+    @BeforeEach
+    void setUp() {
+        OptimisticLockProperties properties = new OptimisticLockProperties();
+        properties.setInitialBackoff(Duration.ofMillis(5));
+        properties.setMaxBackoff(Duration.ofMillis(10));
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new OptimisticLockRetryAspect(properties, meterRegistry);
+        target = mock(SampleService.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    void testRetriesUntilSuccess() {
+        SampleEntity updated = new SampleEntity("updated");
+        when(target.update(eq(1L), any()))
+                .thenThrow(conflict(), conflict())
+                .thenReturn(updated);
+
+        assertSame(updated, proxy.update(1L, e -> e.setName("updated")));
+
+        verify(target, times(3)).update(eq(1L), any());
+        assertEquals(2, conflicts("retried"));
+        assertEquals(0, conflicts("failed"));
+    }
+
+    @Test
+    void testGivesUpAfterMaxAttempts() {
+        when(target.update(eq(1L), any())).thenThrow(conflict());
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> proxy.update(1L, e -> { }));
+
+        verify(target, times(3)).update(eq(1L), any());
+        assertEquals(1, conflicts("failed"));
+    }
+
+    @Test
+    void testNotRetryableMethodOnlyCounted() {
+        SampleEntity stale = new SampleEntity("stale");
+        when(target.save(stale)).thenThrow(conflict());
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> proxy.save(stale));
+
+        verify(target, times(1)).save(stale);
+        assertEquals(1, conflicts("failed"));
+    }
+
+    @Test
+    void testBackoffBounded() {
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            long backoff = aspect.backoffMillis(attempt);
+            assertTrue(backoff >= 0 && backoff <= 10);
+        }
+    }
+
+    private ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException(SampleEntity.class, 1L);
+    }
+
+    private double conflicts(String outcome) {
+        return meterRegistry.find(OptimisticLockRetryAspect.CONFLICTS_NAME)
+                .tags("entity", "SampleEntity", "outcome", outcome)
+                .counters().stream().mapToDouble(c -> c.count()).sum();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.codestarter.concurrent;
+
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.service.SampleService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OptimisticLockRetryAspect集成测试（H2）
+ * 由另一个事务并发修改同一行，在 @Version 实体上产生真实的版本冲突
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OptimisticLockRetryIntegrationTest {
+
+    @Autowired
+    private SampleService sampleService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testRetriesRealVersionConflict() {
+        Long id = sampleService.save(new SampleEntity("original")).getId();
+        double retried = conflicts("retried");
+        AtomicInteger attempts = new AtomicInteger();
+
+        SampleEntity updated = sampleService.update(id, entity -> {
+            if (attempts.incrementAndGet() == 1) {
+                // 当前事务已读取旧版本，另一个线程的事务先提交
+                CompletableFuture.runAsync(() -> sampleService.update(id, other -> other.setName("theirs"))).join();
+            }
+            entity.setName("mine");
+        });
+
+        assertEquals(2, attempts.get());
+        assertEquals("mine", updated.getName());
+        assertEquals(3, sampleService.findById(id).orElseThrow().getVersion());
+        assertEquals(retried + 1, conflicts("retried"));
+    }
+
+    @Test
+    void testStaleEntityIsNotRetried() {
+        SampleEntity saved = sampleService.save(new SampleEntity("original"));
+        sampleService.update(saved.getId(), entity -> entity.setName("newer"));
+
+        saved.setName("stale");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> sampleService.save(saved));
+        assertEquals("newer", sampleService.findById(saved.getId()).orElseThrow().getName());
+    }
+
+    private double conflicts(String outcome) {
+        return meterRegistry.find(OptimisticLockRetryAspect.CONFLICTS_NAME)
+                .tags("entity", "SampleEntity", "outcome", outcome)
+                .counters().stream().mapToDouble(c -> c.count()).sum();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.codestarter.concurrent;
+
+import com.example.codestarter.CodeStarterApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 平台线程与虚拟线程吞吐量对比压测（需要 Java 21）
+ * 每个请求查询一次数据库后阻塞 1s，模拟慢 I/O；两种模式使用相同的 Tomcat 最大线程数与连接池大小。
+ * 阻塞时间远大于单个请求的 CPU 耗时，平台线程模式的吞吐量受 Tomcat 线程数限制，虚拟线程模式不受此限制
+ */
+@Slf4j
+@EnabledIf("com.example.codestarter.concurrent.VirtualThreads#isSupported")
+class VirtualThreadPerformanceTest {
+
+    private static final int REQUESTS = 300;
+
+    private static final int DELAY_MILLIS = 1000;
+
+    private static final int TOMCAT_THREADS = 20;
+
+    private static final String THREAD_HEADER = "X-Request-Thread";
+
+    @Test
+    void testCompareThroughput() throws Exception {
+        double platform = measure(false);
+        double virtual = measure(true);
+
+        log.info("平台线程: {} req/s，虚拟线程: {} req/s", Math.round(platform), Math.round(virtual));
+        // 平台线程上限为 TOMCAT_THREADS * 1000 / DELAY_MILLIS
+        assertTrue(platform <= TOMCAT_THREADS * 1000.0 / DELAY_MILLIS * 1.1, "平台线程吞吐量: " + platform);
+        assertTrue(virtual > platform, "虚拟线程吞吐量 " + virtual + " 低于平台线程 " + platform);
+    }
+
+    private double measure(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CodeStarterApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "--server.tomcat.accept-count=" + REQUESTS,
+                        "--server.tomcat.max-connections=" + REQUESTS,
+                        "--spring.datasource.hikari.maximum-pool-size=10",
+                        "--app.virtual-threads.enabled=" + virtualThreads)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/samples/slow?delayMillis=" + DELAY_MILLIS);
+            HttpClient client = HttpClient.newHttpClient();
+            // 预热
+            client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding());
+
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<Void>>> futures = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(client.sendAsync(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding()));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            long elapsed = System.nanoTime() - start;
+
+            for (CompletableFuture<HttpResponse<Void>> future : futures) {
+                HttpResponse<Void> response = future.join();
+                assertEquals(200, response.statusCode());
+                String thread = response.headers().firstValue(THREAD_HEADER).orElseThrow();
+                assertEquals(virtualThreads, thread.startsWith("VirtualThread"), thread);
+            }
+            return REQUESTS * 1_000_000_000.0 / elapsed;
+        }
+    }
+}
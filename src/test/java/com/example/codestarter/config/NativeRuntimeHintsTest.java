@@ -0,0 +1,36 @@
+package com.example.codestarter.config;
+
+import com.example.codestarter.common.Result;
+import com.example.codestarter.entity.BaseEntity;
+import com.example.codestarter.entity.EntityVersion;
+import com.example.codestarter.entity.SampleEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NativeRuntimeHints单元测试
+ */
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void testRegistersEntityHierarchyAndResponseTypes() throws Exception {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onField(BaseEntity.class.getDeclaredField("id")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(SampleEntity.class, "getName").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(SampleEntity.class, "setName").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(EntityVersion.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(Result.class, "getData").test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("logback-spring.xml").test(hints));
+    }
+}
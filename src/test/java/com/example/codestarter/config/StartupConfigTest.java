@@ -0,0 +1,46 @@
+package com.example.codestarter.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * StartupConfig测试：SpringDoc 延迟初始化
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StartupConfigTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Test
+    void testSpringDocBeansCreatedOnFirstDocsRequest() throws Exception {
+        ConfigurableListableBeanFactory beanFactory = (ConfigurableListableBeanFactory)
+                context.getAutowireCapableBeanFactory();
+        List<String> lazy = Arrays.stream(beanFactory.getBeanDefinitionNames())
+                .filter(name -> beanFactory.getBeanDefinition(name).isLazyInit())
+                .toList();
+        assertTrue(lazy.contains("openApiResource"), lazy.toString());
+        assertTrue(lazy.contains("customOpenAPI"));
+
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.info.title").value("Code Starter API"));
+        assertTrue(beanFactory.containsSingleton("openApiResource"));
+    }
+}
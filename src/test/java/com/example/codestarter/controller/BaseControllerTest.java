@@ -0,0 +1,160 @@
+package com.example.codestarter.controller;
+
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.repository.SampleRepository;
+import com.example.codestarter.service.SampleService;
+import com.example.codestarter.service.count.CountStrategies;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * BaseController测试（H2）
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BaseControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SampleService sampleService;
+
+    @Autowired
+    private SampleRepository sampleRepository;
+
+    @Autowired
+    private CountStrategies countStrategies;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        sampleRepository.deleteAllInBatch();
+        countStrategies.invalidate(SampleEntity.class);
+    }
+
+    @Test
+    void testExportNdjson() throws Exception {
+        List<SampleEntity> saved = sampleService.saveAll(List.of(
+                new SampleEntity("a"), new SampleEntity("b"), new SampleEntity("c")));
+        sampleService.deleteByIdLogical(saved.get(1).getId());
+
+        MvcResult result = mockMvc.perform(get("/samples/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(Duration.ofMinutes(10).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(body.contains("\"name\":\"a\""));
+        assertTrue(body.contains("\"name\":\"c\""));
+        assertFalse(body.contains("\"name\":\"b\""));
+    }
+
+    @Test
+    void testPageWithIncrementalCount() throws Exception {
+        List<SampleEntity> saved = sampleService.saveAll(List.of(
+                new SampleEntity("a"), new SampleEntity("b"), new SampleEntity("c")));
+        mockMvc.perform(get("/samples/page").param("size", "2").param("countMode", "INCREMENTAL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(3));
+
+        sampleService.save(new SampleEntity("d"));
+        sampleService.deleteByIdsLogical(List.of(saved.get(0).getId(), saved.get(1).getId()));
+
+        mockMvc.perform(get("/samples/page").param("size", "1").param("countMode", "INCREMENTAL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(2))
+                .andExpect(jsonPath("$.data.content.length()").value(1));
+    }
+
+    @Test
+    void testGetById() throws Exception {
+        SampleEntity saved = sampleService.save(new SampleEntity("a"));
+
+        mockMvc.perform(get("/samples/{id}", saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("a"))
+                .andExpect(jsonPath("$.data.createTime").value(
+                        matchesPattern("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?")));
+        mockMvc.perform(get("/samples/{id}", -1L))
+                .andExpect(jsonPath("$.code").value(404));
+    }
+
+    @Test
+    void testConditionalGet() throws Exception {
+        SampleEntity saved = sampleService.save(new SampleEntity("a"));
+
+        MvcResult first = mockMvc.perform(get("/samples/{id}", saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1\""))
+                .andReturn();
+        String lastModified = first.getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        assertNotNull(lastModified);
+
+        mockMvc.perform(get("/samples/{id}", saved.getId()).header(HttpHeaders.IF_NONE_MATCH, "W/\"1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/samples/{id}", saved.getId()).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+
+        sampleService.update(saved.getId(), entity -> entity.setName("b"));
+
+        mockMvc.perform(get("/samples/{id}", saved.getId()).header(HttpHeaders.IF_NONE_MATCH, "W/\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"2\""))
+                .andExpect(jsonPath("$.data.name").value("b"));
+    }
+
+    @Test
+    void testConditionalGetWithoutUpdateTime() throws Exception {
+        SampleEntity saved = sampleService.save(new SampleEntity("a"));
+        // 早期数据或外部写入的行可能没有更新时间
+        jdbcTemplate.execute("ALTER TABLE sample_entity ALTER COLUMN update_time SET NULL");
+        try {
+            jdbcTemplate.update("UPDATE sample_entity SET update_time = NULL WHERE id = ?", saved.getId());
+
+            mockMvc.perform(get("/samples/{id}", saved.getId()).header(HttpHeaders.IF_NONE_MATCH, "W/\"1\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "W/\"1\""))
+                    .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+            mockMvc.perform(get("/samples/{id}", saved.getId()).header(HttpHeaders.IF_NONE_MATCH, "W/\"0\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "W/\"1\""))
+                    .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                    .andExpect(jsonPath("$.data.name").value("a"));
+        } finally {
+            jdbcTemplate.update("UPDATE sample_entity SET update_time = CURRENT_TIMESTAMP WHERE update_time IS NULL");
+            jdbcTemplate.execute("ALTER TABLE sample_entity ALTER COLUMN update_time SET NOT NULL");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.codestarter.controller;
+
+import com.example.codestarter.common.Result;
+import com.example.codestarter.entity.SampleEntity;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 测试用 Controller
+ */
+@RestController
+@RequestMapping("/samples")
+public class SampleController extends BaseController<SampleEntity, Long> {
+
+    /**
+     * 模拟慢请求：查询数据库后阻塞指定时间，用于线程模型的压测
+     * 响应头 X-Request-Thread 为处理请求的线程，便于确认是否运行在虚拟线程上
+     */
+    @GetMapping("/slow")
+    public Result<Long> slow(@RequestParam(defaultValue = "50") long delayMillis, HttpServletResponse response)
+            throws InterruptedException {
+        long count = service.countNotDeleted();
+        Thread.sleep(delayMillis);
+        response.setHeader("X-Request-Thread", Thread.currentThread().toString());
+        return Result.success(count);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.codestarter.datasource;
+
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.repository.SampleRepository;
+import com.example.codestarter.service.SampleService;
+import com.example.codestarter.service.count.CountStrategies;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 读写分离路由测试（两个 H2 库分别作为主库和从库）
+ */
+@SpringBootTest(properties = {
+        "app.datasource.routing.enabled=true",
+        "app.datasource.routing.lag-query=SELECT 0",
+        "app.datasource.routing.lag-check-interval=1h",
+        "app.datasource.routing.replicas[0].name=replica-a",
+        "app.datasource.routing.replicas[0].url=jdbc:h2:mem:replica_a;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("test")
+class ReadWriteRoutingDataSourceTest {
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired
+    private SampleService sampleService;
+
+    @Autowired
+    private SampleRepository sampleRepository;
+
+    @Autowired
+    private CountStrategies countStrategies;
+
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        replicaJdbcTemplate = new JdbcTemplate(routingDataSource.getReplicas().get(0).getDataSource());
+        replicaJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS sample_entity (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "create_time TIMESTAMP(6) NOT NULL, update_time TIMESTAMP(6) NOT NULL, deleted INT NOT NULL, "
+                + "create_by BIGINT, update_by BIGINT, version INT NOT NULL, name VARCHAR(255))");
+        replicaJdbcTemplate.update("INSERT INTO sample_entity (create_time, update_time, deleted, version, name) "
+                + "VALUES (CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0, 1, 'from-replica')");
+        ReadYourWritesContext.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicaJdbcTemplate.execute("DROP TABLE sample_entity");
+        sampleRepository.deleteAllInBatch();
+        countStrategies.invalidate(SampleEntity.class);
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void testReadOnlyTransactionRoutedToReplica() {
+        List<SampleEntity> entities = sampleService.findAll();
+
+        assertEquals(List.of("from-replica"), entities.stream().map(SampleEntity::getName).toList());
+    }
+
+    @Test
+    void testReadYourWritesAfterCommit() {
+        sampleService.save(new SampleEntity("from-primary"));
+
+        List<SampleEntity> entities = sampleService.findAll();
+        assertEquals(List.of("from-primary"), entities.stream().map(SampleEntity::getName).toList());
+
+        ReadYourWritesContext.clear();
+        assertEquals(List.of("from-replica"), sampleService.findAll().stream().map(SampleEntity::getName).toList());
+    }
+
+    @Test
+    void testLaggingReplicaExcluded() {
+        ReplicaNode replica = new ReplicaNode("lagging", routingDataSource.getReplicas().get(0).getDataSource());
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(List.of(replica), Duration.ofSeconds(5),
+                Duration.ofHours(1), "SELECT 100");
+
+        monitor.refresh();
+
+        assertFalse(replica.isAvailable());
+        assertEquals(100, replica.getLagSeconds());
+        ReadWriteRoutingDataSource lagging = new ReadWriteRoutingDataSource(
+                routingDataSource.getResolvedDefaultDataSource(), List.of(replica), ReplicaSelection.ROUND_ROBIN,
+                Duration.ofSeconds(2));
+        assertNull(lagging.selectReplica());
+    }
+}
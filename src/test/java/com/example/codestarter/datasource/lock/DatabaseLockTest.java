@@ -0,0 +1,86 @@
+package com.example.codestarter.datasource.lock;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * DatabaseLock单元测试
+ */
+class DatabaseLockTest {
+
+    @Test
+    void testRunsTaskWhenAdvisoryLockAcquired() throws Exception {
+        Connection connection = mockConnection("MySQL", 1);
+        DatabaseLock lock = new DatabaseLock(dataSource(connection));
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertTrue(lock.runExclusively("purge", () -> ran.set(true)));
+
+        assertTrue(ran.get());
+        verify(connection).prepareStatement("SELECT GET_LOCK(?, 0)");
+        verify(connection).prepareStatement("SELECT RELEASE_LOCK(?)");
+    }
+
+    @Test
+    void testSkipsTaskWhenAdvisoryLockHeldElsewhere() throws Exception {
+        Connection connection = mockConnection("MySQL", 0);
+        DatabaseLock lock = new DatabaseLock(dataSource(connection));
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertFalse(lock.runExclusively("purge", () -> ran.set(true)));
+
+        assertFalse(ran.get());
+        verify(connection, never()).prepareStatement("SELECT RELEASE_LOCK(?)");
+    }
+
+    @Test
+    void testFallsBackToLocalLock() throws Exception {
+        Connection connection = mockConnection("H2", 1);
+        DatabaseLock lock = new DatabaseLock(dataSource(connection));
+        AtomicBoolean nested = new AtomicBoolean(true);
+
+        assertTrue(lock.runExclusively("purge", () -> {
+            Thread other = new Thread(() -> nested.set(lock.runExclusively("purge", () -> {
+            })));
+            other.start();
+            try {
+                other.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        assertFalse(nested.get());
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    private static DataSource dataSource(Connection connection) throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    private static Connection mockConnection(String product, int lockResult) throws Exception {
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn(product);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getInt(1)).thenReturn(lockResult);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        Connection connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        return connection;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.codestarter.datasource.pool;
+
+import com.example.codestarter.service.SampleService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PoolCallerAspect测试（H2）
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PoolCallerAspectTest {
+
+    @Autowired
+    private SampleService sampleService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testTagsConnectionMetricsWithOutermostCaller() {
+        sampleService.countNotDeleted();
+
+        Timer acquire = meterRegistry.get(PoolTelemetry.ACQUIRE_NAME)
+                .tag("caller", "SampleEntity.countNotDeleted").timer();
+        Timer usage = meterRegistry.get(PoolTelemetry.USAGE_NAME)
+                .tag("caller", "SampleEntity.countNotDeleted").timer();
+        assertTrue(acquire.count() >= 1);
+        assertTrue(usage.count() >= 1);
+        assertEquals(PoolCallerContext.NONE, PoolCallerContext.current());
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.codestarter.datasource.pool;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.codestarter.concurrent.ConcurrencyLimitAspect;
+import com.example.codestarter.config.PoolProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PoolTelemetry、AdaptivePoolSizer单元测试（H2）
+ */
+class PoolTelemetryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PoolProperties properties;
+
+    private HikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new PoolProperties();
+        dataSource = new HikariDataSource();
+        dataSource.setPoolName("test-pool");
+        dataSource.setJdbcUrl("jdbc:h2:mem:pool_telemetry");
+        dataSource.setMaximumPoolSize(10);
+        dataSource.setMinimumIdle(5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        PoolCallerContext.clear();
+        dataSource.close();
+    }
+
+    @Test
+    void testRecordsAcquireAndUsageByCaller() throws Exception {
+        PoolTelemetry telemetry = new PoolTelemetry(meterRegistry, properties);
+        telemetry.register(dataSource);
+
+        PoolCallerContext.set("SampleEntity.findById");
+        try (Connection ignored = dataSource.getConnection()) {
+            assertEquals(1, telemetry.getPools().size());
+        }
+
+        assertEquals(1, meterRegistry.get(PoolTelemetry.ACQUIRE_NAME)
+                .tags("pool", "test-pool", "caller", "SampleEntity.findById").timer().count());
+        assertEquals(1, meterRegistry.get(PoolTelemetry.USAGE_NAME)
+                .tags("pool", "test-pool", "caller", "SampleEntity.findById").timer().count());
+        assertNotNull(meterRegistry.find("hikaricp.connections.max").gauge());
+    }
+
+    @Test
+    void testDetectsLeakOnce() throws Exception {
+        properties.setLeakThreshold(Duration.ofMillis(1));
+        PoolTelemetry telemetry = new PoolTelemetry(meterRegistry, properties);
+        telemetry.register(dataSource);
+
+        try (Connection ignored = dataSource.getConnection()) {
+            Thread.sleep(20);
+            telemetry.detectLeaks();
+            telemetry.detectLeaks();
+        }
+
+        assertEquals(1, meterRegistry.get(PoolTelemetry.LEAK_NAME)
+                .tags("pool", "test-pool", "caller", PoolCallerContext.NONE).counter().count());
+    }
+
+    @Test
+    void testLeakReportsTransactionBoundAfterBegin() throws Exception {
+        properties.setLeakThreshold(Duration.ofMillis(1));
+        PoolTelemetry telemetry = new PoolTelemetry(meterRegistry, properties);
+        telemetry.register(dataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setName("SampleService.update");
+        Logger logger = (Logger) LoggerFactory.getLogger(PoolTelemetry.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                telemetry.bindTransaction();
+                sleep(20);
+                telemetry.detectLeaks();
+            });
+        } finally {
+            logger.detachAppender(appender);
+        }
+
+        assertEquals(1, appender.list.size());
+        assertTrue(appender.list.get(0).getFormattedMessage().contains("事务: SampleService.update"));
+    }
+
+    @Test
+    void testConnectionClosedOnAnotherThread() throws Exception {
+        properties.setLeakThreshold(Duration.ofMillis(1));
+        PoolTelemetry telemetry = new PoolTelemetry(meterRegistry, properties);
+        telemetry.register(dataSource);
+
+        Connection connection = dataSource.getConnection();
+        CompletableFuture.runAsync(() -> {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }).get(5, TimeUnit.SECONDS);
+        try (Connection ignored = dataSource.getConnection()) {
+            assertNotNull(ignored);
+        }
+        Thread.sleep(20);
+        telemetry.detectLeaks();
+
+        assertNull(meterRegistry.find(PoolTelemetry.LEAK_NAME).counter());
+        assertEquals(2, meterRegistry.get(PoolTelemetry.USAGE_NAME)
+                .tags("pool", "test-pool", "caller", PoolCallerContext.NONE).timer().count());
+    }
+
+    @Test
+    void testOverloadedWhenExhaustedAndWaitOverBudget() {
+        FixedPoolStats stats = new FixedPoolStats();
+        PoolState state = new PoolState("test-pool", dataSource, stats);
+        long budget = Duration.ofMillis(500).toNanos();
+        for (int i = 0; i < 20; i++) {
+            state.recordAcquire(Duration.ofSeconds(2).toNanos());
+        }
+
+        stats.set(0, 3);
+        assertTrue(state.isOverloaded(budget));
+        stats.set(1, 3);
+        assertFalse(state.isOverloaded(budget));
+        stats.set(0, 0);
+        assertFalse(state.isOverloaded(budget));
+    }
+
+    @Test
+    void testAdaptiveSizing() {
+        PoolProperties.Adaptive adaptive = properties.getAdaptive();
+        adaptive.setMinSize(4);
+        adaptive.setMaxSize(12);
+        adaptive.setStep(2);
+        adaptive.setShrinkAfter(2);
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(new PoolTelemetry(meterRegistry, properties), adaptive,
+                meterRegistry);
+        PoolState state = new PoolState("test-pool", dataSource, new FixedPoolStats());
+        long waiting = Duration.ofMillis(50).toNanos();
+
+        sizer.adjust(state, new PoolState.Window(100, waiting, 10, 0, 10));
+        assertEquals(12, dataSource.getMaximumPoolSize());
+        sizer.adjust(state, new PoolState.Window(100, waiting, 10, 0, 12));
+        assertEquals(12, dataSource.getMaximumPoolSize());
+
+        dataSource.setMaximumPoolSize(10);
+        sizer.adjust(state, new PoolState.Window(100, waiting, 500, 0, 10));
+        assertEquals(10, dataSource.getMaximumPoolSize());
+
+        sizer.adjust(state, new PoolState.Window(100, 0, 10, 0, 1));
+        assertEquals(10, dataSource.getMaximumPoolSize());
+        sizer.adjust(state, new PoolState.Window(100, 0, 10, 0, 1));
+        assertEquals(8, dataSource.getMaximumPoolSize());
+        assertEquals(5, dataSource.getMinimumIdle());
+    }
+
+    @Test
+    void testAdaptiveSizingResizesConcurrencyLimitWithPrimaryPool() {
+        PoolProperties.Adaptive adaptive = properties.getAdaptive();
+        adaptive.setMaxSize(12);
+        adaptive.setStep(2);
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(new PoolTelemetry(meterRegistry, properties), adaptive,
+                meterRegistry);
+        ConcurrencyLimitAspect concurrencyLimit = new ConcurrencyLimitAspect(10, Duration.ofMillis(100));
+        sizer.setConcurrencyLimit(concurrencyLimit);
+        PoolState.Window waiting = new PoolState.Window(100, Duration.ofMillis(50).toNanos(), 10, 0, 10);
+
+        sizer.adjust(new PoolState("replica", dataSource, new FixedPoolStats(), false), waiting);
+        assertEquals(12, dataSource.getMaximumPoolSize());
+        assertEquals(10, concurrencyLimit.getMaxConcurrency());
+
+        dataSource.setMaximumPoolSize(10);
+        sizer.adjust(new PoolState("test-pool", dataSource, new FixedPoolStats()), waiting);
+        assertEquals(12, dataSource.getMaximumPoolSize());
+        assertEquals(12, concurrencyLimit.getMaxConcurrency());
+        assertEquals(12, concurrencyLimit.availablePermits());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 固定值的连接池统计
+     */
+    private static final class FixedPoolStats extends PoolStats {
+
+        private FixedPoolStats() {
+            super(Long.MAX_VALUE);
+        }
+
+        private void set(int idle, int pending) {
+            idleConnections = idle;
+            pendingThreads = pending;
+        }
+
+        @Override
+        protected void update() {
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.codestarter.datasource.pool;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.service.SampleService;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PoolTransactionAspect集成测试（H2）
+ * 事务管理器在开启事务时获取连接，泄漏告警应包含随后设置的事务名
+ */
+@SpringBootTest(properties = "app.pool.leak-threshold=1ms")
+@ActiveProfiles("test")
+class PoolTransactionAspectTest {
+
+    @Autowired
+    private SampleService sampleService;
+
+    @Autowired
+    private PoolTelemetry poolTelemetry;
+
+    @Test
+    void testLeakReportNamesServiceTransaction() {
+        Long id = sampleService.save(new SampleEntity("a")).getId();
+        Logger logger = (Logger) LoggerFactory.getLogger(PoolTelemetry.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            sampleService.update(id, entity -> {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                poolTelemetry.detectLeaks();
+            });
+        } finally {
+            logger.detachAppender(appender);
+        }
+
+        assertTrue(appender.list.stream().map(ILoggingEvent::getFormattedMessage)
+                .anyMatch(message -> message.contains("调用方: SampleEntity.update, 事务: "
+                        + SampleService.class.getName() + ".update")), () -> appender.list.toString());
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.codestarter.datasource.query;
+
+import com.example.codestarter.config.QueryStatsProperties;
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.service.SampleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SQL 执行统计与 /actuator/queries 端点测试（H2）
+ * 慢查询阈值设为 1ns，使每次执行都保留慢查询样本
+ */
+@SpringBootTest(properties = {
+        "app.query-stats.enabled=true",
+        "app.query-stats.slow-threshold=1ns",
+        "app.query-stats.capture-parameters=true",
+        "app.query-stats.explain-enabled=true",
+        "app.query-stats.reset-enabled=true"
+})
+@ActiveProfiles("test")
+class QueryStatsEndpointTest {
+
+    @Autowired
+    private SampleService sampleService;
+
+    @Autowired
+    private QueryStatsEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint.reset();
+    }
+
+    @Test
+    void testMergesInListsPerEntityAndOperation() {
+        List<Long> ids = sampleService.saveAll(List.of(new SampleEntity("a"), new SampleEntity("b"),
+                new SampleEntity("c"))).stream().map(SampleEntity::getId).toList();
+        sampleService.deleteByIdsLogical(ids.subList(0, 1));
+        sampleService.deleteByIdsLogical(ids.subList(1, 3));
+
+        QueryStat.Snapshot delete = endpoint.queries(100, "count").queries().stream()
+                .filter(query -> "deleteByIdsLogical".equals(query.operation()))
+                .findFirst().orElseThrow();
+        assertEquals("SampleEntity", delete.entity());
+        assertTrue(delete.sql().contains("in (?...)"), delete.sql());
+        assertEquals(2, delete.count());
+        assertEquals(3, delete.rows());
+        assertTrue(delete.maxParameters() > delete.avgParameters());
+        assertEquals(2, delete.slowCount());
+    }
+
+    @Test
+    void testCountsRowsAndExplainsSlowQuery() {
+        sampleService.saveAll(List.of(new SampleEntity("x"), new SampleEntity("y")));
+        int found = sampleService.findAll().size();
+
+        QueryStat.Snapshot select = endpoint.queries(100, null).queries().stream()
+                .filter(query -> "SampleEntity".equals(query.entity()) && "findAll".equals(query.operation()))
+                .findFirst().orElseThrow();
+        assertEquals(found, select.rows());
+
+        QueryStatsEndpoint.QueryDetail detail = endpoint.query(select.id());
+        assertNotNull(detail.query().lastSlow());
+        assertNull(detail.planError());
+        assertFalse(detail.plan().isEmpty());
+    }
+
+    @Test
+    void testExplainAndResetAreOptIn() {
+        QueryStatsProperties properties = new QueryStatsProperties();
+        properties.setSlowThreshold(Duration.ofNanos(1));
+        QueryStats stats = new QueryStats(properties);
+        QueryStatsEndpoint defaults = new QueryStatsEndpoint(stats, null, properties);
+        stats.record("select * from sample_entity where id = ?", 1_000, 1, 1, new Object[]{1L});
+
+        QueryStat.Snapshot snapshot = defaults.queries(null, null).queries().get(0);
+        QueryStatsEndpoint.QueryDetail detail = defaults.query(snapshot.id());
+        assertNull(detail.plan());
+        assertNotNull(detail.planError());
+        assertThrows(InvalidEndpointRequestException.class, defaults::reset);
+        assertEquals(1, stats.size());
+
+        properties.setExplainEnabled(true);
+        detail = new QueryStatsEndpoint(stats, null, properties).query(snapshot.id());
+        assertNull(detail.plan());
+        assertTrue(detail.planError().contains("capture-parameters"), detail.planError());
+    }
+
+    @Test
+    void testRejectsInvalidOrderAndLimit() {
+        InvalidEndpointRequestException order = assertThrows(InvalidEndpointRequestException.class,
+                () -> endpoint.queries(null, "foo"));
+        assertTrue(order.getReason().contains("max"), order.getReason());
+        assertTrue(order.getReason().contains("slow"), order.getReason());
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.queries(0, null));
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.queries(-1, "avg"));
+        assertEquals("avg", endpoint.queries(1, "AVG").order());
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.codestarter.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * 测试用实体
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "sample_entity")
+public class SampleEntity extends BaseEntity {
+
+    @Column(name = "name", length = 64)
+    private String name;
+
+    public SampleEntity(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.codestarter.entity;
+
+/**
+ * SampleEntity 接口投影，只查询 id 和 name
+ */
+public interface SampleNameView {
+
+    Long getId();
+
+    String getName();
+}
@@ -0,0 +1,10 @@
+package com.example.codestarter.entity;
+
+/**
+ * SampleEntity DTO 投影
+ *
+ * @param id   主键ID
+ * @param name 名称
+ */
+public record SampleSummary(Long id, String name) {
+}
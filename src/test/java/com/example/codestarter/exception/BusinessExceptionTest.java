@@ -26,4 +26,14 @@ class BusinessExceptionTest {
         assertEquals(code, exception.getCode());
         assertEquals(message, exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStackless() {
+        BusinessException exception = new BusinessException(400, "参数错误");
+        exception.addSuppressed(new IllegalStateException());
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(0, exception.getSuppressed().length);
+        assertEquals(0, BusinessException.NOT_FOUND.getStackTrace().length);
+    }
+}
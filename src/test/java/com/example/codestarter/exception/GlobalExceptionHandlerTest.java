@@ -1,13 +1,13 @@
 package com.example.codestarter.exception;
 
 import com.example.codestarter.common.Result;
+import com.example.codestarter.config.ExceptionLogProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
-import org.mockito.MockitoAnnotations;
-import org.springframework.http.ResponseEntity;
-
-import java.util.Map;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -16,18 +16,20 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class GlobalExceptionHandlerTest {
 
-    @InjectMocks
+    private MeterRegistry meterRegistry;
+
     private GlobalExceptionHandler globalExceptionHandler;
 
     @BeforeEach
     void setUp() {
-        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        globalExceptionHandler = new GlobalExceptionHandler(meterRegistry, new ExceptionLogProperties());
     }
 
     @Test
     void testHandleBusinessException() {
         BusinessException businessException = new BusinessException("业务异常测试");
-        Result<Map<String, Object>> result = globalExceptionHandler.handleBusinessException(businessException);
+        Result<ErrorBody> result = globalExceptionHandler.handleBusinessException(businessException);
 
         assertNotNull(result);
         assertEquals(Integer.valueOf(500), result.getCode());
@@ -38,7 +40,7 @@ class GlobalExceptionHandlerTest {
     @Test
     void testHandleBusinessExceptionWithCode() {
         BusinessException businessException = new BusinessException(400, "参数错误");
-        Result<Map<String, Object>> result = globalExceptionHandler.handleBusinessException(businessException);
+        Result<ErrorBody> result = globalExceptionHandler.handleBusinessException(businessException);
 
         assertNotNull(result);
         assertEquals(Integer.valueOf(400), result.getCode());
@@ -46,10 +48,32 @@ class GlobalExceptionHandlerTest {
         assertNotNull(result.getData());
     }
 
+    @Test
+    void testHandleOptimisticLockingFailure() {
+        ObjectOptimisticLockingFailureException exception =
+                new ObjectOptimisticLockingFailureException(Object.class, 1L);
+        Result<ErrorBody> result = globalExceptionHandler.handleOptimisticLockingFailure(exception);
+
+        assertNotNull(result);
+        assertEquals(Integer.valueOf(409), result.getCode());
+        assertNotNull(result.getData());
+    }
+
+    @Test
+    void testConnectionTimeoutMatchesPoolShedding() {
+        Result<ErrorBody> shed = globalExceptionHandler.handleBusinessException(BusinessException.SERVICE_BUSY);
+        Result<ErrorBody> result = globalExceptionHandler.handleCannotCreateTransaction(
+                new CannotCreateTransactionException("Connection is not available"));
+
+        assertEquals(Integer.valueOf(503), result.getCode());
+        assertEquals(shed.getCode(), result.getCode());
+        assertEquals(shed.getMessage(), result.getMessage());
+    }
+
     @Test
     void testHandleIllegalArgumentException() {
         IllegalArgumentException illegalArgumentException = new IllegalArgumentException("参数不合法");
-        Result<Map<String, String>> result = globalExceptionHandler.handleIllegalArgumentException(illegalArgumentException);
+        Result<ErrorBody> result = globalExceptionHandler.handleIllegalArgumentException(illegalArgumentException);
 
         assertNotNull(result);
         assertEquals(Integer.valueOf(400), result.getCode());
@@ -60,11 +84,24 @@ class GlobalExceptionHandlerTest {
     @Test
     void testHandleException() {
         Exception exception = new Exception("系统异常");
-        Result<Map<String, String>> result = globalExceptionHandler.handleException(exception);
+        Result<ErrorBody> result = globalExceptionHandler.handleException(exception);
 
         assertNotNull(result);
         assertEquals(Integer.valueOf(500), result.getCode());
         assertTrue(result.getMessage().contains("系统异常"));
         assertNotNull(result.getData());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testErrorBodyAndCounters() {
+        globalExceptionHandler.handleBusinessException(BusinessException.NOT_FOUND);
+        Result<ErrorBody> result = globalExceptionHandler.handleBusinessException(BusinessException.NOT_FOUND);
+        globalExceptionHandler.handleException(new IllegalStateException("系统异常"));
+
+        assertEquals(new ErrorBody(404, "数据不存在", null), result.getData());
+        assertEquals(2, meterRegistry.get(GlobalExceptionHandler.METRIC_NAME)
+                .tags("code", "404", "exception", "BusinessException").counter().count());
+        assertEquals(1, meterRegistry.get(GlobalExceptionHandler.METRIC_NAME)
+                .tags("code", "500", "exception", "IllegalStateException").counter().count());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.codestarter.metrics;
+
+import com.example.codestarter.config.ServiceMetricsProperties;
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.service.SampleService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ServiceMetricsAspect单元测试
+ */
+class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SampleService target;
+
+    private SampleService proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        target = mock(SampleService.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry, new ServiceMetricsProperties()));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    void testRecordsTimerAndBatchSize() {
+        proxy.saveAll(List.of(new SampleEntity("a"), new SampleEntity("b"), new SampleEntity("c")));
+
+        Timer timer = meterRegistry.get(ServiceMetricsAspect.TIMER_NAME)
+                .tags("entity", "SampleEntity", "operation", "saveAll", "outcome", "success")
+                .timer();
+        DistributionSummary batchSize = meterRegistry.get(ServiceMetricsAspect.BATCH_SIZE_NAME)
+                .tags("entity", "SampleEntity", "operation", "saveAll")
+                .summary();
+        assertEquals(1, timer.count());
+        assertEquals(3, batchSize.totalAmount());
+    }
+
+    @Test
+    void testRecordsError() {
+        when(target.findById(1L)).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> proxy.findById(1L));
+
+        Timer timer = meterRegistry.get(ServiceMetricsAspect.TIMER_NAME)
+                .tags("operation", "findById", "outcome", "error", "exception", "IllegalStateException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.codestarter.repository;
+
+import com.example.codestarter.entity.SampleEntity;
+
+/**
+ * 测试用 Repository
+ */
+public interface SampleRepository extends BaseRepository<SampleEntity, Long> {
+}
@@ -0,0 +1,51 @@
+package com.example.codestarter.repository.support;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BaseEntity 索引补充与检查测试（H2）
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BaseEntityIndexCheckerTest {
+
+    @Autowired
+    private BaseEntityIndexChecker checker;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testIndexesCreatedForBaseEntityTable() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assertTrue(checker.findMissingIndexes(connection.getMetaData(), connection.getCatalog(),
+                    "sample_entity").isEmpty());
+        }
+    }
+
+    @Test
+    void testMissingIndexesReported() throws Exception {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS plain_entity (id BIGINT PRIMARY KEY, deleted INT, "
+                + "create_time TIMESTAMP, update_time TIMESTAMP)");
+        try (Connection connection = dataSource.getConnection()) {
+            List<BaseEntityIndexes.IndexDefinition> missing = checker.findMissingIndexes(connection.getMetaData(),
+                    connection.getCatalog(), "plain_entity");
+            assertEquals(BaseEntityIndexes.ALL, missing);
+        } finally {
+            jdbcTemplate.execute("DROP TABLE plain_entity");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.codestarter.repository.support;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SampledSqlLogger单元测试
+ */
+class SampledSqlLoggerTest {
+
+    private Logger logger;
+
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(SampledSqlLogger.LOGGER_NAME);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void testSamplesOneInN() {
+        SampledSqlLogger inspector = new SampledSqlLogger(3);
+        for (int i = 1; i <= 9; i++) {
+            assertEquals("select " + i, inspector.inspect("select " + i));
+        }
+
+        assertEquals(3, appender.list.size());
+        assertTrue(appender.list.get(0).getFormattedMessage().endsWith("select 3"));
+        assertTrue(appender.list.get(2).getFormattedMessage().endsWith("select 9"));
+    }
+
+    @Test
+    void testRejectsInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> new SampledSqlLogger(0));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.codestarter.service;
+
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.repository.SampleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BaseServiceImpl实体缓存测试（H2）
+ */
+@SpringBootTest(properties = "app.cache.entity.enabled=true")
+@ActiveProfiles("test")
+class BaseServiceImplCacheTest {
+
+    @Autowired
+    private SampleService sampleService;
+
+    @Autowired
+    private SampleRepository sampleRepository;
+
+    @AfterEach
+    void tearDown() {
+        sampleRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testFindByIdServedFromCache() {
+        SampleEntity saved = sampleService.save(new SampleEntity("cached"));
+        assertTrue(sampleService.findByIdAndNotDeleted(saved.getId()).isPresent());
+
+        // 绕过 Service 直接修改数据库，缓存命中时仍返回旧值
+        sampleRepository.deleteAllInBatch();
+
+        assertEquals("cached", sampleService.findById(saved.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void testFindAllByIdsUsesCacheAndLoadsMisses() {
+        List<SampleEntity> saved = sampleService.saveAll(List.of(new SampleEntity("a"), new SampleEntity("b")));
+        Long cachedId = saved.get(0).getId();
+        Long missedId = saved.get(1).getId();
+        assertTrue(sampleService.findByIdAndNotDeleted(cachedId).isPresent());
+
+        assertEquals(List.of("a", "b"), sampleService.findAllByIds(List.of(cachedId, missedId)).stream()
+                .map(SampleEntity::getName).toList());
+
+        // 两条都已在缓存中，绕过 Service 删除后仍可查到
+        sampleRepository.deleteAllInBatch();
+        assertEquals(2, sampleService.findAllByIds(List.of(cachedId, missedId)).size());
+    }
+
+    @Test
+    void testSaveRefreshesCache() {
+        SampleEntity saved = sampleService.save(new SampleEntity("v1"));
+        SampleEntity loaded = sampleService.findById(saved.getId()).orElseThrow();
+
+        loaded.setName("v2");
+        sampleService.save(loaded);
+
+        SampleEntity reloaded = sampleService.findById(saved.getId()).orElseThrow();
+        assertEquals("v2", reloaded.getName());
+        assertEquals(saved.getVersion() + 1, reloaded.getVersion());
+    }
+
+    @Test
+    void testLogicalDeleteEvictsCache() {
+        List<SampleEntity> saved = sampleService.saveAll(List.of(new SampleEntity("a"), new SampleEntity("b")));
+        saved.forEach(e -> assertTrue(sampleService.findByIdAndNotDeleted(e.getId()).isPresent()));
+
+        sampleService.deleteByIdLogical(saved.get(0).getId());
+        sampleService.deleteByIdsLogical(List.of(saved.get(1).getId()));
+
+        saved.forEach(e -> assertTrue(sampleService.findByIdAndNotDeleted(e.getId()).isEmpty()));
+        assertEquals(1, sampleService.findById(saved.get(0).getId()).orElseThrow().getDeleted());
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.codestarter.service;
+
+import com.example.codestarter.common.CursorPage;
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.entity.SampleNameView;
+import com.example.codestarter.entity.SampleSummary;
+import com.example.codestarter.exception.BusinessException;
+import com.example.codestarter.service.bulk.BulkProgress;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BaseServiceImpl测试（H2）
+ */
+@SpringBootTest(properties = {"app.persistence.batch-size=10", "app.persistence.delete-chunk-size=7"})
+@ActiveProfiles("test")
+@Transactional
+class BaseServiceImplTest {
+
+    @Autowired
+    private SampleService sampleService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        List<SampleEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            entities.add(new SampleEntity("sample-" + i));
+        }
+        sampleService.saveAll(entities);
+    }
+
+    @Test
+    void testSaveAllInChunks() {
+        assertEquals(25, sampleService.countNotDeleted());
+        assertEquals(25, sampleService.findAll().size());
+    }
+
+    @Test
+    void testStreamAllDetachesPreviousEntity() {
+        List<SampleEntity> seen = new ArrayList<>();
+        try (Stream<SampleEntity> stream = sampleService.streamAll()) {
+            stream.forEach(entity -> {
+                assertTrue(entityManager.contains(entity));
+                if (!seen.isEmpty()) {
+                    assertFalse(entityManager.contains(seen.get(seen.size() - 1)));
+                }
+                seen.add(entity);
+            });
+        }
+        assertEquals(25, seen.size());
+        assertFalse(entityManager.contains(seen.get(seen.size() - 1)));
+    }
+
+    @Test
+    void testBatchInsert() {
+        List<SampleEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            entities.add(new SampleEntity("batch-" + i));
+        }
+
+        int inserted = sampleService.batchInsert(entities);
+
+        assertEquals(23, inserted);
+        entities.forEach(e -> {
+            assertNotNull(e.getId());
+            assertNotNull(e.getCreateTime());
+            assertEquals(0, e.getDeleted());
+        });
+        SampleEntity loaded = sampleService.findByIdAndNotDeleted(entities.get(22).getId()).orElseThrow();
+        assertEquals("batch-22", loaded.getName());
+        assertEquals(48, sampleService.countNotDeleted());
+    }
+
+    @Test
+    void testBulkInsertAndUpsert() {
+        List<BulkProgress> progresses = new ArrayList<>();
+        BulkProgress inserted = sampleService.bulkInsert(
+                IntStream.range(0, 23).mapToObj(i -> new SampleEntity("bulk-" + i)), progresses::add);
+
+        assertEquals(23, inserted.rows());
+        assertEquals(3, inserted.chunks());
+        assertEquals(List.of(10L, 20L, 23L), progresses.stream().map(BulkProgress::rows).toList());
+        assertEquals(48, sampleService.countNotDeleted());
+
+        SampleEntity existing = sampleService.findAll().get(0);
+        SampleEntity changed = new SampleEntity("changed");
+        changed.setId(existing.getId());
+        entityManager.clear();
+        BulkProgress upserted = sampleService.bulkUpsert(Stream.of(changed, new SampleEntity("upsert-new")));
+
+        assertEquals(2, upserted.rows());
+        SampleEntity reloaded = sampleService.findById(existing.getId()).orElseThrow();
+        assertEquals("changed", reloaded.getName());
+        assertEquals(existing.getCreateTime(), reloaded.getCreateTime());
+        assertEquals(existing.getVersion() + 1, reloaded.getVersion());
+        assertEquals(49, sampleService.countNotDeleted());
+    }
+
+    @Test
+    void testUpsertKeepsLogicallyDeletedRowDeleted() {
+        SampleEntity existing = sampleService.findAll().get(0);
+        sampleService.deleteByIdsLogical(List.of(existing.getId()));
+        SampleEntity changed = new SampleEntity("changed");
+        changed.setId(existing.getId());
+        entityManager.clear();
+
+        sampleService.bulkUpsert(Stream.of(changed));
+
+        SampleEntity reloaded = sampleService.findById(existing.getId()).orElseThrow();
+        assertEquals("changed", reloaded.getName());
+        assertEquals(1, reloaded.getDeleted());
+        assertEquals(existing.getCreateTime(), reloaded.getCreateTime());
+        assertEquals(24, sampleService.countNotDeleted());
+    }
+
+    @Test
+    void testUpdate() {
+        SampleEntity entity = sampleService.findAll().get(0);
+        int version = entity.getVersion();
+
+        SampleEntity updated = sampleService.update(entity.getId(), e -> e.setName("renamed"));
+
+        assertEquals("renamed", updated.getName());
+        assertEquals(version + 1, updated.getVersion());
+        assertThrows(BusinessException.class, () -> sampleService.update(-1L, e -> { }));
+    }
+
+    @Test
+    void testProjections() {
+        List<SampleNameView> views = sampleService.findAll(SampleNameView.class);
+        assertEquals(25, views.size());
+        assertEquals("sample-24", views.get(0).getName());
+
+        Page<SampleSummary> page = sampleService.findAllByPageAs(PageRequest.of(1, 10), SampleSummary.class);
+        assertEquals(25, page.getTotalElements());
+        assertEquals(10, page.getNumberOfElements());
+
+        SampleSummary summary = page.getContent().get(0);
+        assertEquals(summary, sampleService.findByIdAndNotDeleted(summary.id(), SampleSummary.class).orElseThrow());
+    }
+
+    @Test
+    void testFindSliceUnmanaged() {
+        Slice<SampleEntity> first = sampleService.findSliceUnmanaged(PageRequest.of(0, 20));
+        Slice<SampleEntity> second = sampleService.findSliceUnmanaged(PageRequest.of(1, 20));
+
+        assertEquals(20, first.getNumberOfElements());
+        assertTrue(first.hasNext());
+        assertEquals(5, second.getNumberOfElements());
+        assertFalse(second.hasNext());
+        assertEquals("sample-24", first.getContent().get(0).getName());
+        assertFalse(entityManager.contains(first.getContent().get(0)));
+    }
+
+    @Test
+    void testDeleteByIdsInChunks() {
+        List<Long> ids = new ArrayList<>(sampleService.findAll().stream().map(SampleEntity::getId).toList());
+        ids.add(-1L);
+
+        int deleted = sampleService.deleteByIds(ids);
+
+        assertEquals(25, deleted);
+        assertEquals(0, sampleService.count());
+        assertTrue(sampleService.findById(ids.get(0)).isEmpty());
+    }
+
+    @Test
+    void testFindAfterWalksAllRows() {
+        Set<Long> ids = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<SampleEntity> page = sampleService.findAfter(cursor, 10);
+            page.getContent().forEach(e -> assertTrue(ids.add(e.getId())));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(25, ids.size());
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void testFindAfterSkipsLogicallyDeleted() {
+        CursorPage<SampleEntity> first = sampleService.findAfter(null, 5);
+        sampleService.deleteByIdLogical(first.getContent().get(0).getId());
+
+        CursorPage<SampleEntity> page = sampleService.findAfter(null, 100);
+
+        assertEquals(24, page.getContent().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testFindAfterInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> sampleService.findAfter(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> sampleService.findAfter(null, 1001));
+    }
+
+    @Test
+    void testFindSliceByPage() {
+        Slice<SampleEntity> slice = sampleService.findSliceByPage(PageRequest.of(2, 10));
+
+        assertEquals(5, slice.getNumberOfElements());
+        assertFalse(slice.hasNext());
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.codestarter.service;
+
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.service.impl.BaseServiceImpl;
+import org.springframework.stereotype.Service;
+
+/**
+ * 测试用 Service
+ */
+@Service
+public class SampleService extends BaseServiceImpl<SampleEntity, Long> {
+}
@@ -0,0 +1,86 @@
+package com.example.codestarter.service.async;
+
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.repository.SampleRepository;
+import com.example.codestarter.service.SampleService;
+import com.example.codestarter.service.count.CountStrategies;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AsyncBaseService测试（H2）
+ */
+@SpringBootTest(properties = "app.persistence.in-clause-size=3")
+@ActiveProfiles("test")
+class AsyncBaseServiceTest {
+
+    @Autowired
+    private AsyncServices asyncServices;
+
+    @Autowired
+    private SampleService sampleService;
+
+    @Autowired
+    private SampleRepository sampleRepository;
+
+    @Autowired
+    private CountStrategies countStrategies;
+
+    private AsyncBaseService<SampleEntity, Long> asyncService;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        asyncService = asyncServices.of(sampleService);
+        List<SampleEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            entities.add(new SampleEntity("sample-" + i));
+        }
+        ids = sampleService.saveAll(entities).stream().map(SampleEntity::getId).toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sampleRepository.deleteAllInBatch();
+        countStrategies.invalidate(SampleEntity.class);
+    }
+
+    @Test
+    void testFindAllByIdsFansOutInOrder() {
+        List<Long> reversed = new ArrayList<>(ids);
+        Collections.reverse(reversed);
+        List<Long> requested = new ArrayList<>(reversed);
+        requested.add(-1L);
+        requested.add(ids.get(0));
+
+        List<SampleEntity> entities = asyncService.findAllByIds(requested).join();
+
+        assertEquals(reversed, entities.stream().map(SampleEntity::getId).toList());
+    }
+
+    @Test
+    void testConcurrentLookups() {
+        CompletableFuture<Optional<SampleEntity>> first = asyncService.findByIdAndNotDeleted(ids.get(0));
+        CompletableFuture<Optional<SampleEntity>> missing = asyncService.findByIdAndNotDeleted(-1L);
+        CompletableFuture<Long> count = asyncService.countNotDeleted();
+
+        CompletableFuture.allOf(first, missing, count).join();
+
+        assertEquals("sample-0", first.join().orElseThrow().getName());
+        assertTrue(missing.join().isEmpty());
+        assertEquals(10, count.join());
+    }
+}
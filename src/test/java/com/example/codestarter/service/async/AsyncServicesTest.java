@@ -0,0 +1,37 @@
+package com.example.codestarter.service.async;
+
+import com.example.codestarter.config.AsyncServiceProperties;
+import com.example.codestarter.config.PersistenceProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AsyncServices单元测试
+ */
+class AsyncServicesTest {
+
+    @Test
+    void testDefaultsToHalfOfConnectionPool() {
+        assertEquals(5, poolSize(0, 10));
+        assertEquals(1, poolSize(0, 1));
+    }
+
+    @Test
+    void testKeepsConnectionHeadroom() {
+        assertEquals(4, poolSize(4, 10));
+        assertEquals(9, poolSize(10, 10));
+        assertEquals(9, poolSize(20, 10));
+    }
+
+    private static int poolSize(int configured, int maximumPoolSize) {
+        AsyncServiceProperties properties = new AsyncServiceProperties();
+        properties.setPoolSize(configured);
+        AsyncServices asyncServices = new AsyncServices(properties, new PersistenceProperties(), maximumPoolSize);
+        try {
+            return asyncServices.poolSize();
+        } finally {
+            asyncServices.shutdown();
+        }
+    }
+}
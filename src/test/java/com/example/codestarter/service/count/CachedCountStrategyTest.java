@@ -0,0 +1,62 @@
+package com.example.codestarter.service.count;
+
+import com.example.codestarter.config.CountProperties;
+import com.example.codestarter.entity.BaseEntity;
+import com.example.codestarter.entity.SampleEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CachedCountStrategy单元测试
+ */
+class CachedCountStrategyTest {
+
+    private CountProperties properties;
+
+    private final AtomicInteger exactCalls = new AtomicInteger();
+
+    private final LongSupplier exactCount = () -> 100L + exactCalls.incrementAndGet();
+
+    @BeforeEach
+    void setUp() {
+        properties = new CountProperties();
+    }
+
+    @Test
+    void testReusesCountWithinTtl() {
+        CachedCountStrategy strategy = new CachedCountStrategy(properties);
+
+        assertEquals(101, strategy.count(SampleEntity.class, exactCount));
+        assertEquals(101, strategy.count(SampleEntity.class, exactCount));
+        assertEquals(1, exactCalls.get());
+    }
+
+    @Test
+    void testRecountsAfterTtl() throws Exception {
+        properties.setCachedTtl(Duration.ofMillis(50));
+        CachedCountStrategy strategy = new CachedCountStrategy(properties);
+        strategy.count(SampleEntity.class, exactCount);
+
+        Thread.sleep(100);
+
+        assertEquals(102, strategy.count(SampleEntity.class, exactCount));
+        assertEquals(2, exactCalls.get());
+    }
+
+    @Test
+    void testExactCountRunsOutsideCacheLock() {
+        CachedCountStrategy strategy = new CachedCountStrategy(properties);
+        // 精确查询期间可以访问其他类型的计数
+        LongSupplier nested = () -> strategy.count(BaseEntity.class, exactCount) + 1;
+
+        assertEquals(102, strategy.count(SampleEntity.class, nested));
+        assertEquals(102, strategy.count(SampleEntity.class, exactCount));
+        assertEquals(1, exactCalls.get());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.codestarter.service.count;
+
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.repository.support.EntityTableResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EstimatedCountStrategy单元测试
+ */
+class EstimatedCountStrategyTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private EstimatedCountStrategy strategy;
+
+    private final AtomicInteger exactCalls = new AtomicInteger();
+
+    private final LongSupplier exactCount = () -> {
+        exactCalls.incrementAndGet();
+        return 100L;
+    };
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        EntityTableResolver tableResolver = mock(EntityTableResolver.class);
+        when(tableResolver.getTableName(SampleEntity.class)).thenReturn("sample_entity");
+        strategy = new EstimatedCountStrategy(jdbcTemplate, tableResolver);
+    }
+
+    @Test
+    void testEstimatesFromMysqlPlan() throws Exception {
+        database("MySQL");
+        when(jdbcTemplate.queryForMap("EXPLAIN SELECT 1 FROM sample_entity WHERE deleted = 0"))
+                .thenReturn(plan(2000L, 10.0));
+
+        assertEquals(200, strategy.count(SampleEntity.class, exactCount));
+        assertEquals(0, exactCalls.get());
+    }
+
+    @Test
+    void testRowsOnlyWithoutFiltered() throws Exception {
+        database("MySQL");
+        when(jdbcTemplate.queryForMap(anyString())).thenReturn(plan(2000L, null));
+
+        assertEquals(2000, strategy.count(SampleEntity.class, exactCount));
+        assertEquals(0, exactCalls.get());
+    }
+
+    @Test
+    void testFallsBackToExactWhenPlanUnavailable() throws Exception {
+        database("MySQL");
+        when(jdbcTemplate.queryForMap(anyString()))
+                .thenReturn(plan(null, null))
+                .thenThrow(new DataAccessResourceFailureException("explain failed"));
+
+        assertEquals(100, strategy.count(SampleEntity.class, exactCount));
+        assertEquals(100, strategy.count(SampleEntity.class, exactCount));
+        assertEquals(2, exactCalls.get());
+    }
+
+    @Test
+    void testExactOnOtherDatabases() throws Exception {
+        database("H2");
+
+        assertEquals(100, strategy.count(SampleEntity.class, exactCount));
+        assertEquals(1, exactCalls.get());
+        verify(jdbcTemplate, never()).queryForMap(anyString());
+    }
+
+    private void database(String product) throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn(product);
+    }
+
+    private static Map<String, Object> plan(Long rows, Double filtered) {
+        Map<String, Object> plan = new HashMap<>();
+        plan.put("rows", rows);
+        plan.put("filtered", filtered);
+        return plan;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.codestarter.service.count;
+
+import com.example.codestarter.config.CountProperties;
+import com.example.codestarter.entity.BaseEntity;
+import com.example.codestarter.entity.SampleEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IncrementalCountStrategy单元测试
+ */
+class IncrementalCountStrategyTest {
+
+    private CountProperties properties;
+
+    private IncrementalCountStrategy strategy;
+
+    private final AtomicInteger exactCalls = new AtomicInteger();
+
+    private final LongSupplier exactCount = () -> {
+        exactCalls.incrementAndGet();
+        return 100L;
+    };
+
+    @BeforeEach
+    void setUp() {
+        properties = new CountProperties();
+        strategy = new IncrementalCountStrategy(properties);
+    }
+
+    @Test
+    void testAdjustsWithoutRecounting() {
+        assertEquals(100, strategy.count(SampleEntity.class, exactCount));
+
+        strategy.onChange(SampleEntity.class, 5);
+        strategy.onChange(SampleEntity.class, -2);
+
+        assertEquals(103, strategy.count(SampleEntity.class, exactCount));
+        assertEquals(1, exactCalls.get());
+    }
+
+    @Test
+    void testInvalidateRecounts() {
+        strategy.count(SampleEntity.class, exactCount);
+        strategy.onChange(SampleEntity.class, 5);
+
+        strategy.invalidate(SampleEntity.class);
+
+        assertEquals(100, strategy.count(SampleEntity.class, exactCount));
+        assertEquals(2, exactCalls.get());
+    }
+
+    @Test
+    void testResyncAfterInterval() {
+        properties.setIncrementalResyncInterval(Duration.ZERO);
+        strategy.count(SampleEntity.class, exactCount);
+        strategy.onChange(SampleEntity.class, 5);
+
+        assertEquals(100, strategy.count(SampleEntity.class, exactCount));
+        assertEquals(2, exactCalls.get());
+    }
+
+    @Test
+    void testExactCountRunsOutsideMapLock() {
+        // 精确查询期间可以访问其他类型的计数
+        LongSupplier nested = () -> strategy.count(BaseEntity.class, exactCount) + 1;
+
+        assertEquals(101, strategy.count(SampleEntity.class, nested));
+        assertEquals(101, strategy.count(SampleEntity.class, exactCount));
+        assertEquals(1, exactCalls.get());
+    }
+}
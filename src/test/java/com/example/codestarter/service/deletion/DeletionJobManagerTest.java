@@ -0,0 +1,115 @@
+package com.example.codestarter.service.deletion;
+
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.repository.SampleRepository;
+import com.example.codestarter.service.SampleService;
+import com.example.codestarter.service.count.CountStrategies;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 分批删除任务测试（H2）
+ */
+@SpringBootTest(properties = {"app.deletion.chunk-size=3", "app.deletion.rows-per-second=0"})
+@ActiveProfiles("test")
+class DeletionJobManagerTest {
+
+    @Autowired
+    private DeletionJobManager deletionJobManager;
+
+    @Autowired
+    private SampleService sampleService;
+
+    @Autowired
+    private SampleRepository sampleRepository;
+
+    @Autowired
+    private CountStrategies countStrategies;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        sampleRepository.deleteAllInBatch();
+        countStrategies.invalidate(SampleEntity.class);
+    }
+
+    @Test
+    void testLogicalDeleteInBackground() throws Exception {
+        List<Long> ids = saveSamples(10);
+
+        DeletionJob job = sampleService.deleteByIdsLogicalInBackground(ids);
+        awaitFinished(job);
+
+        assertEquals(DeletionJobStatus.COMPLETED, job.getStatus());
+        assertEquals(10, job.getProcessed());
+        assertEquals(10, job.getAffected());
+        assertEquals(0, sampleService.countNotDeleted());
+        assertEquals(10, sampleService.count());
+    }
+
+    @Test
+    void testResumeFromFailedChunk() throws Exception {
+        List<Long> ids = saveSamples(7);
+        AtomicInteger calls = new AtomicInteger();
+
+        DeletionJob job = deletionJobManager.submit("SampleEntity", ids, chunk -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("模拟失败");
+            }
+            return sampleRepository.logicalDeleteByIds(chunk);
+        });
+        awaitFinished(job);
+        assertEquals(DeletionJobStatus.FAILED, job.getStatus());
+        assertEquals(3, job.getProcessed());
+
+        deletionJobManager.resume(job.getId());
+        awaitFinished(job);
+
+        assertEquals(DeletionJobStatus.COMPLETED, job.getStatus());
+        assertEquals(7, job.getAffected());
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void testPurgeDeleted() {
+        List<Long> ids = saveSamples(8);
+        sampleService.deleteByIdsLogical(ids.subList(0, 5));
+
+        assertEquals(0, sampleService.purgeDeleted(Duration.ofDays(1)));
+        // 模拟两天前逻辑删除
+        jdbcTemplate.update("UPDATE sample_entity SET update_time = DATEADD(DAY, -2, update_time) WHERE deleted = 1");
+        assertEquals(5, sampleService.purgeDeleted(Duration.ofDays(1)));
+
+        assertEquals(3, sampleService.count());
+        assertEquals(3, sampleService.countNotDeleted());
+    }
+
+    private List<Long> saveSamples(int count) {
+        List<SampleEntity> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entities.add(new SampleEntity("sample-" + i));
+        }
+        return sampleService.saveAll(entities).stream().map(SampleEntity::getId).toList();
+    }
+
+    private void awaitFinished(DeletionJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(job.isFinished(), "删除任务未在超时时间内结束");
+    }
+}
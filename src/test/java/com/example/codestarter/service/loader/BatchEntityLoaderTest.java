@@ -0,0 +1,92 @@
+package com.example.codestarter.service.loader;
+
+import com.example.codestarter.entity.SampleEntity;
+import com.example.codestarter.repository.SampleRepository;
+import com.example.codestarter.service.SampleService;
+import com.example.codestarter.service.count.CountStrategies;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BatchEntityLoader测试（H2）
+ */
+@SpringBootTest(properties = {"app.batch-loader.enabled=true", "app.batch-loader.window=2s",
+        "app.batch-loader.max-batch-size=4"})
+@ActiveProfiles("test")
+class BatchEntityLoaderTest {
+
+    @Autowired
+    private BatchLoaders batchLoaders;
+
+    @Autowired
+    private SampleService sampleService;
+
+    @Autowired
+    private SampleRepository sampleRepository;
+
+    @Autowired
+    private CountStrategies countStrategies;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        sampleRepository.deleteAllInBatch();
+        countStrategies.invalidate(SampleEntity.class);
+    }
+
+    @Test
+    void testConcurrentLoadsCoalesce() {
+        List<SampleEntity> saved = sampleService.saveAll(List.of(
+                new SampleEntity("a"), new SampleEntity("b"), new SampleEntity("c")));
+        sampleService.deleteByIdLogical(saved.get(2).getId());
+        BatchEntityLoader<SampleEntity, Long> loader = batchLoaders.of(sampleService);
+        DistributionSummary batchSize = meterRegistry.get(BatchLoaders.BATCH_SIZE_NAME)
+                .tag("entity", "SampleEntity").summary();
+        long batches = batchSize.count();
+
+        Long first = saved.get(0).getId();
+        CompletableFuture<Optional<SampleEntity>> a1 = loader.load(first);
+        CompletableFuture<Optional<SampleEntity>> a2 = loader.load(first);
+        CompletableFuture<Optional<SampleEntity>> b = loader.load(saved.get(1).getId());
+        CompletableFuture<Optional<SampleEntity>> deleted = loader.load(saved.get(2).getId());
+        CompletableFuture.allOf(a1, a2, b, deleted).join();
+
+        assertEquals(batches + 1, batchSize.count());
+        assertEquals("a", a1.join().orElseThrow().getName());
+        assertEquals("a", a2.join().orElseThrow().getName());
+        assertNotSame(a1.join().orElseThrow(), a2.join().orElseThrow());
+        assertEquals("b", b.join().orElseThrow().getName());
+        assertTrue(deleted.join().isEmpty());
+    }
+
+    @Test
+    void testFullBatchDispatchesImmediately() {
+        List<SampleEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            entities.add(new SampleEntity("sample-" + i));
+        }
+        List<Long> ids = sampleService.saveAll(entities).stream().map(SampleEntity::getId).toList();
+        BatchEntityLoader<SampleEntity, Long> loader = batchLoaders.of(sampleService);
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Optional<SampleEntity>>> futures = ids.stream().map(loader::load).toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        assertTrue(System.nanoTime() - start < 1_000_000_000L);
+        assertEquals("sample-3", futures.get(3).join().orElseThrow().getName());
+    }
+}